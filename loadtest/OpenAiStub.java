@@ -0,0 +1,60 @@
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+
+/**
+ * 🔥 부하 테스트용 OpenAI 스텁 (POST /chat/completions에 고정 지연 후 고정 응답)
+ * 의존성 없이 단일 파일로 실행 - 스텁이 병목이 되지 않도록 요청마다 스레드 사용
+ *
+ *   java loadtest/OpenAiStub.java [port=9090] [delayMs=1500]
+ */
+public class OpenAiStub {
+
+    private static final String REPLY = "산책을 하셨다니 잘하셨어요. 어떤 점이 가장 기억에 남나요?";
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 9090;
+        long delayMs = args.length > 1 ? Long.parseLong(args[1]) : 1500;
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 1024);
+        server.createContext("/chat/completions", exchange -> handle(exchange, delayMs));
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        System.out.printf("OpenAI stub listening on :%d (delay %d ms)%n", port, delayMs);
+    }
+
+    private static void handle(HttpExchange exchange, long delayMs) throws IOException {
+        String request = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        boolean stream = request.replace(" ", "").contains("\"stream\":true");
+
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        String body;
+        if (stream) {
+            exchange.getResponseHeaders().set("Content-Type", "text/event-stream; charset=utf-8");
+            body = "data: {\"choices\":[{\"delta\":{\"content\":\"" + REPLY + "\"}}]}\n\n"
+                    + "data: {\"choices\":[{\"delta\":{},\"finish_reason\":\"stop\"}]}\n\n"
+                    + "data: [DONE]\n\n";
+        } else {
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            body = "{\"choices\":[{\"message\":{\"role\":\"assistant\",\"content\":\"" + REPLY + "\"},"
+                    + "\"finish_reason\":\"stop\"}],"
+                    + "\"usage\":{\"prompt_tokens\":100,\"completion_tokens\":20,\"total_tokens\":120}}";
+        }
+
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+// 🔥 대화 턴 동시 처리량 부하 테스트 (k6)
+// 같은 인스턴스를 기본 모드 / vthreads 프로필로 각각 띄워 결과 비교 - loadtest/README.md 참고
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e TOKEN=<accessToken> -e DIARY_ID=1 loadtest/chat-turns.js
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend, Rate } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const TOKEN = __ENV.TOKEN;
+const DIARY_ID = __ENV.DIARY_ID || '1';
+const MAX_VUS = parseInt(__ENV.MAX_VUS || '800', 10);
+
+const turnDuration = new Trend('chat_turn_duration', true);
+const turnFailed = new Rate('chat_turn_failed');
+
+export const options = {
+    scenarios: {
+        // 동시 대화 수를 단계적으로 늘려 응답 시간이 무너지는 지점 확인
+        ramping_chat: {
+            executor: 'ramping-vus',
+            startVUs: 10,
+            stages: [
+                { duration: '1m', target: MAX_VUS / 4 },
+                { duration: '1m', target: MAX_VUS / 2 },
+                { duration: '1m', target: MAX_VUS },
+                { duration: '2m', target: MAX_VUS },
+                { duration: '30s', target: 0 },
+            ],
+            gracefulRampDown: '30s',
+        },
+    },
+    thresholds: {
+        chat_turn_failed: ['rate<0.01'],
+        chat_turn_duration: ['p(95)<5000'],
+    },
+};
+
+export default function () {
+    const res = http.post(
+        `${BASE_URL}/api/diary/chat/${DIARY_ID}`,
+        JSON.stringify({ message: '오늘은 조금 지쳤어요. 그래도 산책은 했어요.' }),
+        {
+            headers: {
+                'Content-Type': 'application/json',
+                Authorization: `Bearer ${TOKEN}`,
+            },
+            timeout: '60s',
+        }
+    );
+
+    const ok = check(res, { 'status is 200': (r) => r.status === 200 });
+    turnFailed.add(!ok);
+    turnDuration.add(res.timings.duration);
+}
@@ -0,0 +1,85 @@
+package Wonbin.FinalProject.ai.common.vector;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 코사인 유사도 스칼라 vs SIMD 비교 (text-embedding-3-small 1536차원)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class VectorMathBenchmark {
+
+    @Param({"1536"})
+    int dimensions;
+
+    float[] a;
+    float[] b;
+    float normA;
+    float normB;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        a = new float[dimensions];
+        b = new float[dimensions];
+        for (int i = 0; i < dimensions; i++) {
+            a[i] = (float) random.nextGaussian() * 0.03f;
+            b[i] = (float) random.nextGaussian() * 0.03f;
+        }
+        normA = VectorMath.norm(a);
+        normB = VectorMath.norm(b);
+    }
+
+    /**
+     * 기존 QuestService.cosineSimilarity 방식 (내적 + norm 2개를 별도 루프, double 누산)
+     */
+    @Benchmark
+    public double legacyCosine() {
+        double dotProduct = 0.0;
+        for (int i = 0; i < a.length; i++) {
+            dotProduct += a[i] * b[i];
+        }
+        double na = 0.0;
+        double nb = 0.0;
+        for (int i = 0; i < a.length; i++) {
+            na += a[i] * a[i];
+            nb += b[i] * b[i];
+        }
+        return dotProduct / (Math.sqrt(na) * Math.sqrt(nb));
+    }
+
+    @Benchmark
+    public float scalarDot() {
+        return VectorMath.dotScalar(a, b);
+    }
+
+    @Benchmark
+    public float simdDot() {
+        return VectorMath.dotSimd(a, b);
+    }
+
+    /**
+     * 저장된 norm + 단일 내적 (실제 중복 체크 경로)
+     */
+    @Benchmark
+    public double cosineWithStoredNorms() {
+        return VectorMath.cosine(a, normA, b, normB);
+    }
+}
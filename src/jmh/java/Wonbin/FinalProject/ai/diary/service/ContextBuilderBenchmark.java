@@ -0,0 +1,74 @@
+package Wonbin.FinalProject.ai.diary.service;
+
+import Wonbin.FinalProject.ai.common.dto.Message;
+import Wonbin.FinalProject.ai.diary.domain.ChatMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ConversationContextBuilder - 컨텍스트 구성 비용
+ * (DiaryChatService.continueChat과 같은 경로: select → system / 누적 요약 / 최근 대화 List<Message> 조립)
+ * 실제 서비스는 대화 길이와 관계없이 최근 max-messages(20)개만 조회하므로 입력은 항상 꽉 찬 윈도우 하나
+ * → 50개 대화 내역 중 최근 20개를 입력으로 사용 (대화 길이를 바꿔도 같은 입력이라 파라미터로 두지 않음)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContextBuilderBenchmark {
+
+    private static final int HISTORY_SIZE = 50;
+
+    ConversationContextBuilder builder;
+    List<ChatMessage> newestFirst;
+    String systemPrompt;
+    String runningSummary;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime base = LocalDateTime.of(2025, 1, 15, 21, 0);
+        builder = new ConversationContextBuilder(1500, 20);
+        systemPrompt = "당신은 따뜻하고 공감 능력이 뛰어난 심리 상담사입니다. 사용자의 감정에 공감하며 짧게 질문해주세요.";
+        runningSummary = "사용자는 회사 발표를 앞두고 긴장했고, 발표 후 허탈감을 느꼈다고 이야기했다.";
+
+        // 리포지토리 윈도우 조회와 동일하게 최신순, 최대 max-messages개
+        int window = builder.getMaxMessages();
+        newestFirst = new ArrayList<>(window);
+        for (int i = HISTORY_SIZE - 1; i >= HISTORY_SIZE - window; i--) {
+            boolean user = i % 2 == 1;
+            newestFirst.add(ChatMessage.builder()
+                    .id((long) i + 1)
+                    .role(user ? "user" : "assistant")
+                    .content(user
+                            ? "오늘 회사에서 발표가 있었는데 생각보다 긴장을 많이 해서 말이 자꾸 꼬였어요. 끝나고 나니 좀 허탈하더라고요."
+                            : "발표를 끝까지 해낸 것만으로도 정말 대단해요. 긴장했던 순간에 어떤 생각이 가장 많이 들었나요?")
+                    .createdAt(base.plusMinutes(i))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<ChatMessage> selectWindow() {
+        return builder.select(newestFirst);
+    }
+
+    @Benchmark
+    public List<Message> assembleMessages() {
+        return builder.assemble(systemPrompt, runningSummary, newestFirst);
+    }
+}
@@ -0,0 +1,68 @@
+package Wonbin.FinalProject.ai.quest.domain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Quest.getTitleEmbeddingArray - 바이너리 vs 레거시 JSON (1536차원)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class QuestEmbeddingBenchmark {
+
+    private static final int DIMENSIONS = 1536;
+
+    Quest binaryQuest;
+    Quest legacyJsonQuest;
+    float[] embedding;
+
+    @Setup
+    public void setUp() throws Exception {
+        Random random = new Random(42);
+        embedding = new float[DIMENSIONS];
+        for (int i = 0; i < DIMENSIONS; i++) {
+            embedding[i] = (float) random.nextGaussian() * 0.03f;
+        }
+
+        binaryQuest = Quest.builder().title("5분 스트레칭").build();
+        binaryQuest.setTitleEmbeddingArray(embedding);
+
+        legacyJsonQuest = Quest.builder()
+                .title("5분 스트레칭")
+                .titleEmbedding(new ObjectMapper().writeValueAsString(embedding))
+                .build();
+    }
+
+    @Benchmark
+    public float[] readBinary() {
+        return binaryQuest.getTitleEmbeddingArray();
+    }
+
+    @Benchmark
+    public float[] readLegacyJson() {
+        return legacyJsonQuest.getTitleEmbeddingArray();
+    }
+
+    @Benchmark
+    public byte[] writeBinary() {
+        Quest quest = Quest.builder().title("5분 스트레칭").build();
+        quest.setTitleEmbeddingArray(embedding);
+        return quest.getTitleEmbeddingVector();
+    }
+}
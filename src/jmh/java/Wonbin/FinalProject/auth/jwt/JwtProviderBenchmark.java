@@ -0,0 +1,73 @@
+package Wonbin.FinalProject.auth.jwt;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter가 매 요청마다 수행하는 토큰 검증 비용 (실제 HS256 서명 토큰)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtProviderBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-must-be-at-least-32-bytes-long";
+
+    JwtProvider jwtProvider;
+    String accessToken;
+    String refreshToken;
+
+    @Setup
+    public void setUp() {
+        jwtProvider = new JwtProvider(SECRET);
+        accessToken = jwtProvider.createAccessToken("bench@example.com");
+        refreshToken = jwtProvider.createRefreshToken("bench@example.com");
+    }
+
+    @Benchmark
+    public boolean validateAccessToken() {
+        return jwtProvider.validateAccessToken(accessToken);
+    }
+
+    /**
+     * 기존 필터 경로 (검증 + 이메일 추출을 각각 수행)
+     */
+    @Benchmark
+    public String filterPath() {
+        if (!jwtProvider.validateAccessToken(accessToken)) {
+            return null;
+        }
+        return jwtProvider.getEmail(accessToken);
+    }
+
+    /**
+     * 필터 경로 (파싱 1회로 검증 + 클레임 추출)
+     */
+    @Benchmark
+    public String verifyAccessToken() {
+        return jwtProvider.verifyAccessToken(accessToken)
+                .map(VerifiedToken::getSubject)
+                .orElse(null);
+    }
+
+    /**
+     * 타입 불일치로 거부되는 경우 (Refresh Token을 Access Token으로 사용)
+     */
+    @Benchmark
+    public boolean rejectRefreshAsAccess() {
+        return jwtProvider.validateAccessToken(refreshToken);
+    }
+}
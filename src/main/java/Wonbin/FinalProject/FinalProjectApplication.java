@@ -3,9 +3,11 @@ package Wonbin.FinalProject;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableAsync  // 🔥 비동기 처리 활성화
+@EnableScheduling  // 🔥 주기 작업 (토큰 캐시 정리 등)
 public class FinalProjectApplication {
 
 	public static void main(String[] args) {
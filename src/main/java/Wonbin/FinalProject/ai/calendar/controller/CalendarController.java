@@ -0,0 +1,41 @@
+package Wonbin.FinalProject.ai.calendar.controller;
+
+import Wonbin.FinalProject.ai.calendar.dto.CalendarResponse;
+import Wonbin.FinalProject.ai.calendar.service.CalendarService;
+import Wonbin.FinalProject.auth.dto.AuthenticatedUser;
+import Wonbin.FinalProject.auth.resolver.LoginUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.YearMonth;
+
+@RestController
+@RequestMapping("/api/calendar")
+@RequiredArgsConstructor
+public class CalendarController {
+
+    private final CalendarService calendarService;
+
+    /**
+     * 월간 캘린더 (날짜별 감정 + 퀘스트 완료 여부)
+     * GET /api/calendar?month=2025-01
+     * ETag 포함 → If-None-Match가 같으면 본문 없이 304 (사용자별 데이터라 private, 매번 재검증)
+     */
+    @GetMapping
+    public ResponseEntity<CalendarResponse> getMonth(
+            @LoginUser AuthenticatedUser user,
+            @RequestParam YearMonth month
+    ) {
+        CalendarResponse response = calendarService.getMonth(user.getId(), month);
+
+        return ResponseEntity.ok()
+                .eTag(calendarService.etag(response))
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(response);
+    }
+}
@@ -0,0 +1,19 @@
+package Wonbin.FinalProject.ai.calendar.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CalendarDayResponse {
+
+    private LocalDate date;
+    private String mood; // Enum key 값 (일기 없으면 null)
+    private Boolean questCompleted; // 퀘스트 없으면 null
+}
@@ -0,0 +1,22 @@
+package Wonbin.FinalProject.ai.calendar.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 캘린더 월간 요약 (일기 또는 퀘스트가 있는 날만, 날짜순)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CalendarResponse {
+
+    private YearMonth month;
+    private List<CalendarDayResponse> days;
+}
@@ -0,0 +1,71 @@
+package Wonbin.FinalProject.ai.calendar.service;
+
+import Wonbin.FinalProject.ai.calendar.dto.CalendarDayResponse;
+import Wonbin.FinalProject.ai.calendar.dto.CalendarResponse;
+import Wonbin.FinalProject.ai.diary.repository.DiaryMoodView;
+import Wonbin.FinalProject.ai.diary.repository.DiaryRepository;
+import Wonbin.FinalProject.ai.quest.domain.QuestStatus;
+import Wonbin.FinalProject.ai.quest.repository.QuestStatusView;
+import Wonbin.FinalProject.ai.quest.repository.UserQuestRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 🔥 캘린더 월간 요약
+ * 일기 엔티티(본문 / 요약 TEXT) 대신 날짜 + 감정, 날짜 + 퀘스트 상태만 프로젝션으로 조회
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CalendarService {
+
+    private final DiaryRepository diaryRepository;
+    private final UserQuestRepository userQuestRepository;
+
+    public CalendarResponse getMonth(Long userId, YearMonth month) {
+        LocalDate start = month.atDay(1);
+        LocalDate end = month.atEndOfMonth();
+
+        Map<LocalDate, CalendarDayResponse.CalendarDayResponseBuilder> days = new TreeMap<>();
+
+        for (DiaryMoodView diary : diaryRepository.findMoodsByUserIdAndDateRange(userId, start, end)) {
+            days.computeIfAbsent(diary.getDiaryDate(), date -> CalendarDayResponse.builder().date(date))
+                    .mood(diary.getMood().getKey());
+        }
+        for (QuestStatusView quest : userQuestRepository.findStatusesByUserIdAndDateRange(userId, start, end)) {
+            days.computeIfAbsent(quest.getQuestDate(), date -> CalendarDayResponse.builder().date(date))
+                    .questCompleted(quest.getStatus() == QuestStatus.COMPLETED);
+        }
+
+        List<CalendarDayResponse> result = new ArrayList<>(days.size());
+        days.values().forEach(builder -> result.add(builder.build()));
+
+        return CalendarResponse.builder()
+                .month(month)
+                .days(result)
+                .build();
+    }
+
+    /**
+     * 응답 내용 기반 ETag (내용이 같으면 같은 값 → 304 Not Modified)
+     */
+    public String etag(CalendarResponse response) {
+        StringBuilder content = new StringBuilder(response.getMonth().toString());
+        for (CalendarDayResponse day : response.getDays()) {
+            content.append('|').append(day.getDate())
+                    .append(',').append(day.getMood())
+                    .append(',').append(day.getQuestCompleted());
+        }
+        return DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
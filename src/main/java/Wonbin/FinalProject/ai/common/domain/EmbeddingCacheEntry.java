@@ -0,0 +1,45 @@
+package Wonbin.FinalProject.ai.common.domain;
+
+import Wonbin.FinalProject.ai.common.vector.EmbeddingCodec;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 🔥 Embedding 캐시 (내용 주소 방식)
+ * key = SHA-256(모델명 + 정규화된 텍스트) → 같은 퀘스트 제목이면 사용자가 달라도 API 재호출 없음
+ */
+@Entity
+@Table(name = "embedding_cache")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class EmbeddingCacheEntry {
+
+    @Id
+    @Column(name = "cache_key", length = 64)
+    private String cacheKey;  // SHA-256 hex
+
+    @Column(nullable = false, length = 100)
+    private String model;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String normalizedText;  // 확인용 (조회는 cacheKey로만)
+
+    @Column(nullable = false, columnDefinition = "BLOB")
+    private byte[] vector;  // float32 바이너리 (EmbeddingCodec)
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public float[] getVectorArray() {
+        return EmbeddingCodec.decode(vector);
+    }
+}
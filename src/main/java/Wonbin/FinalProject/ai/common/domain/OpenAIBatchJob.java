@@ -0,0 +1,74 @@
+package Wonbin.FinalProject.ai.common.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 🔥 제출한 OpenAI Batch 작업 (폴링 → 완료 시 kind별 핸들러로 결과 반영)
+ */
+@Entity
+@Table(name = "openai_batch_jobs",
+       indexes = @Index(name = "idx_openai_batch_status", columnList = "status"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OpenAIBatchJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private String batchId;  // OpenAI batch ID
+
+    @Column(nullable = false, length = 50)
+    private String kind;  // 결과 핸들러 종류 (quest, diary-summary)
+
+    @Column(nullable = false)
+    private int requestCount;
+
+    @Builder.Default
+    private int succeeded = 0;
+
+    @Builder.Default
+    private int failed = 0;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private Status status = Status.SUBMITTED;
+
+    private String errorMessage;
+
+    @Column(nullable = false)
+    private LocalDateTime submittedAt;
+
+    private LocalDateTime completedAt;
+
+    public enum Status {
+        SUBMITTED,
+        COMPLETED,
+        FAILED
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.submittedAt = LocalDateTime.now();
+    }
+
+    public void complete(int succeeded, int failed) {
+        this.succeeded = succeeded;
+        this.failed = failed;
+        this.status = Status.COMPLETED;
+        this.completedAt = LocalDateTime.now();
+    }
+
+    public void fail(String errorMessage) {
+        this.errorMessage = errorMessage;
+        this.status = Status.FAILED;
+        this.completedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,18 @@
+package Wonbin.FinalProject.ai.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Batch API 요청 1건 (JSONL 한 줄 - custom_id로 결과를 원래 요청과 연결)
+ */
+@Getter
+@AllArgsConstructor
+public class BatchRequest {
+
+    private final String customId;
+    private final List<Message> messages;
+    private final ChatOptions options;
+}
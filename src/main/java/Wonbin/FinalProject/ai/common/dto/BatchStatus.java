@@ -0,0 +1,33 @@
+package Wonbin.FinalProject.ai.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Batch 진행 상태 (GET /batches/{id})
+ * status: validating / in_progress / finalizing / completed / failed / expired / cancelling / cancelled
+ */
+@Getter
+@AllArgsConstructor
+public class BatchStatus {
+
+    private final String status;
+    private final String outputFileId;  // 성공한 요청 결과 JSONL
+    private final String errorFileId;   // 실패한 요청 결과 JSONL
+
+    public boolean isCompleted() {
+        return "completed".equals(status);
+    }
+
+    /**
+     * 결과 파일 없이 끝난 상태 (expired는 일부 결과가 있을 수 있어 파일이 있으면 처리)
+     */
+    public boolean isFailed() {
+        return "failed".equals(status) || "cancelled".equals(status)
+                || ("expired".equals(status) && outputFileId == null && errorFileId == null);
+    }
+
+    public boolean isExpiredWithResults() {
+        return "expired".equals(status) && (outputFileId != null || errorFileId != null);
+    }
+}
@@ -0,0 +1,36 @@
+package Wonbin.FinalProject.ai.common.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * POST /chat/completions 요청 본문
+ */
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChatCompletionRequest {
+
+    private final String model;
+    private final List<Message> messages;
+    private final Double temperature;
+
+    @JsonProperty("max_tokens")
+    private final Integer maxTokens;
+
+    private final Boolean stream;
+
+    public static ChatCompletionRequest of(List<Message> messages, ChatOptions options, boolean stream) {
+        return ChatCompletionRequest.builder()
+                .model(options.getModel())
+                .messages(messages)
+                .temperature(options.getTemperature())
+                .maxTokens(options.getMaxTokens())
+                .stream(stream ? Boolean.TRUE : null)
+                .build();
+    }
+}
@@ -0,0 +1,80 @@
+package Wonbin.FinalProject.ai.common.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * POST /chat/completions 응답 (스트리밍 청크도 같은 형태 - message 대신 delta)
+ */
+@Getter
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ChatCompletionResponse {
+
+    private List<Choice> choices;
+    private Usage usage;
+
+    /**
+     * 첫 번째 choice의 응답 내용 (없으면 null)
+     */
+    public String getContent() {
+        if (choices == null || choices.isEmpty() || choices.get(0).getMessage() == null) {
+            return null;
+        }
+        return choices.get(0).getMessage().getContent();
+    }
+
+    /**
+     * 스트리밍 청크의 delta.content (role 청크 등 내용이 없으면 null)
+     */
+    public String getDeltaContent() {
+        if (choices == null || choices.isEmpty() || choices.get(0).getDelta() == null) {
+            return null;
+        }
+        return choices.get(0).getDelta().getContent();
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Choice {
+        private Message message;
+        private Message delta;
+
+        @JsonProperty("finish_reason")
+        private String finishReason;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Usage {
+        @JsonProperty("prompt_tokens")
+        private int promptTokens;
+
+        @JsonProperty("completion_tokens")
+        private int completionTokens;
+
+        @JsonProperty("prompt_tokens_details")
+        private PromptTokensDetails promptTokensDetails;
+
+        /**
+         * 프롬프트 캐시로 처리된 토큰 수
+         */
+        public int getCachedTokens() {
+            return promptTokensDetails != null ? promptTokensDetails.getCachedTokens() : 0;
+        }
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class PromptTokensDetails {
+        @JsonProperty("cached_tokens")
+        private int cachedTokens;
+    }
+}
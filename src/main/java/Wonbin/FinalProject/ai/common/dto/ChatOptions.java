@@ -0,0 +1,23 @@
+package Wonbin.FinalProject.ai.common.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Chat Completions 호출 옵션 (null이면 OpenAI 기본값 사용)
+ */
+@Getter
+@Builder
+public class ChatOptions {
+
+    public static final String DEFAULT_MODEL = "gpt-4o-mini";  // 저비용 모델
+
+    @Builder.Default
+    private final String model = DEFAULT_MODEL;
+    private final Double temperature;
+    private final Integer maxTokens;
+
+    public static ChatOptions defaults() {
+        return ChatOptions.builder().build();
+    }
+}
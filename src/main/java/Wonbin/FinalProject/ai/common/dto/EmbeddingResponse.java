@@ -0,0 +1,25 @@
+package Wonbin.FinalProject.ai.common.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * POST /embeddings 응답 (embedding 배열을 float[]로 바로 역직렬화)
+ */
+@Getter
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class EmbeddingResponse {
+
+    private List<Data> data;
+
+    @Getter
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Data {
+        private float[] embedding;
+    }
+}
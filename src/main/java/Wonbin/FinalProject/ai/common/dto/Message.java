@@ -0,0 +1,29 @@
+package Wonbin.FinalProject.ai.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Chat Completions 메시지 (role: system / user / assistant)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class Message {
+
+    private String role;
+    private String content;
+
+    public static Message system(String content) {
+        return new Message("system", content);
+    }
+
+    public static Message user(String content) {
+        return new Message("user", content);
+    }
+
+    public static Message assistant(String content) {
+        return new Message("assistant", content);
+    }
+}
@@ -0,0 +1,9 @@
+package Wonbin.FinalProject.ai.common.repository;
+
+import Wonbin.FinalProject.ai.common.domain.EmbeddingCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EmbeddingCacheRepository extends JpaRepository<EmbeddingCacheEntry, String> {
+}
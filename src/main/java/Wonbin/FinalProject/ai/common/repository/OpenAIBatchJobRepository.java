@@ -0,0 +1,14 @@
+package Wonbin.FinalProject.ai.common.repository;
+
+import Wonbin.FinalProject.ai.common.domain.OpenAIBatchJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OpenAIBatchJobRepository extends JpaRepository<OpenAIBatchJob, Long> {
+
+    // 🔥 아직 결과를 반영하지 않은 작업 (폴링 대상)
+    List<OpenAIBatchJob> findByStatusOrderByIdAsc(OpenAIBatchJob.Status status);
+}
@@ -0,0 +1,30 @@
+package Wonbin.FinalProject.ai.common.service;
+
+import Wonbin.FinalProject.ai.common.dto.BatchStatus;
+
+import java.nio.file.Path;
+
+/**
+ * 🔥 Batch 제출 / 상태 조회 / 결과 다운로드
+ * openai.batch.client=remote → OpenAI Batch API, local → 로컬 파일 (테스트 / 개발용)
+ */
+public interface BatchClient {
+
+    /**
+     * JSONL 요청 제출 → batch ID
+     */
+    String submit(String jsonl);
+
+    BatchStatus getStatus(String batchId);
+
+    /**
+     * 결과 파일(JSONL)을 로컬 경로로 가져옴 (크기가 커서 메모리에 올리지 않음)
+     */
+    Path download(String fileId);
+
+    /**
+     * 결과 처리 후 정리 (임시 파일 삭제 등)
+     */
+    default void release(Path file) {
+    }
+}
@@ -0,0 +1,14 @@
+package Wonbin.FinalProject.ai.common.service;
+
+/**
+ * 🔥 Batch 결과 반영 (kind별 구현 - OpenAIBatchService가 custom_id와 응답 본문을 넘겨줌)
+ */
+public interface BatchResultHandler {
+
+    String kind();
+
+    void onSuccess(String customId, String content);
+
+    default void onFailure(String customId, String error) {
+    }
+}
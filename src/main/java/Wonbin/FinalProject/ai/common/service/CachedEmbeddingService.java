@@ -0,0 +1,170 @@
+package Wonbin.FinalProject.ai.common.service;
+
+import Wonbin.FinalProject.ai.common.domain.EmbeddingCacheEntry;
+import Wonbin.FinalProject.ai.common.repository.EmbeddingCacheRepository;
+import Wonbin.FinalProject.ai.common.vector.EmbeddingCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * 🔥 Embedding 캐시 (인메모리 LRU → embedding_cache 테이블 → OpenAI API 순서로 조회)
+ *
+ * - 키: SHA-256(모델명 + 정규화 텍스트) - NFKC, 앞뒤 공백 제거, 연속 공백 1개로
+ * - "5분 스트레칭"처럼 사용자 간에 반복되는 퀘스트 제목은 API를 한 번만 호출
+ * - 반환된 벡터는 캐시와 공유 → 호출한 쪽에서 수정하지 않음
+ * - 메트릭: embedding.cache.requests{result=memory|db|miss}, embedding.cache.size
+ */
+@Slf4j
+@Service
+public class CachedEmbeddingService {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final OpenAIService openAIService;
+    private final EmbeddingCacheRepository cacheRepository;
+    private final int maxEntries;
+
+    // 접근 순서 LinkedHashMap (LRU) - 가상 스레드에서도 pinning 없도록 synchronized 대신 ReentrantLock
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, float[]> lru;
+
+    private final Counter memoryHitCounter;
+    private final Counter dbHitCounter;
+    private final Counter missCounter;
+
+    public CachedEmbeddingService(OpenAIService openAIService,
+                                  EmbeddingCacheRepository cacheRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${embedding.cache.max-entries:5000}") int maxEntries) {
+        this.openAIService = openAIService;
+        this.cacheRepository = cacheRepository;
+        this.maxEntries = maxEntries;
+        this.lru = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, float[]> eldest) {
+                return size() > CachedEmbeddingService.this.maxEntries;
+            }
+        };
+
+        this.memoryHitCounter = Counter.builder("embedding.cache.requests").tag("result", "memory").register(meterRegistry);
+        this.dbHitCounter = Counter.builder("embedding.cache.requests").tag("result", "db").register(meterRegistry);
+        this.missCounter = Counter.builder("embedding.cache.requests").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("embedding.cache.size", this, CachedEmbeddingService::size).register(meterRegistry);
+    }
+
+    /**
+     * 텍스트 Embedding (논블로킹 - DB 조회/저장은 boundedElastic)
+     */
+    public Mono<float[]> getEmbedding(String text) {
+        String normalized = normalize(text);
+        String key = cacheKey(OpenAIService.EMBEDDING_MODEL, normalized);
+
+        float[] cached = getFromMemory(key);
+        if (cached != null) {
+            memoryHitCounter.increment();
+            return Mono.just(cached);
+        }
+
+        return Mono.fromCallable(() -> cacheRepository.findById(key).map(EmbeddingCacheEntry::getVectorArray).orElse(null))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnNext(vector -> {
+                    dbHitCounter.increment();
+                    putInMemory(key, vector);
+                })
+                .switchIfEmpty(Mono.defer(() -> {
+                    missCounter.increment();
+                    return openAIService.createEmbeddingAsync(normalized)
+                            .publishOn(Schedulers.boundedElastic())
+                            .doOnNext(vector -> {
+                                persist(key, normalized, vector);
+                                putInMemory(key, vector);
+                            });
+                }));
+    }
+
+    /**
+     * 텍스트 Embedding (블로킹 호출용)
+     */
+    public float[] getEmbeddingBlocking(String text) {
+        return getEmbedding(text).block();
+    }
+
+    /**
+     * 캐시 키용 정규화 (NFKC + 공백 정리) - 대소문자는 의미가 달라질 수 있어 유지
+     */
+    public static String normalize(String text) {
+        String nfkc = Normalizer.normalize(text, Normalizer.Form.NFKC);
+        return WHITESPACE.matcher(nfkc.strip()).replaceAll(" ");
+    }
+
+    static String cacheKey(String model, String normalizedText) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(model.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);  // 모델명 / 텍스트 구분자
+            digest.update(normalizedText.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private void persist(String key, String normalized, float[] vector) {
+        try {
+            cacheRepository.save(EmbeddingCacheEntry.builder()
+                    .cacheKey(key)
+                    .model(OpenAIService.EMBEDDING_MODEL)
+                    .normalizedText(normalized)
+                    .vector(EmbeddingCodec.encode(vector))
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Embedding already cached by another request: {}", key);  // 동시 저장 - 같은 값
+        } catch (Exception e) {
+            log.warn("⚠️ Failed to persist embedding cache entry (memory cache only): {}", key, e);
+        }
+    }
+
+    private float[] getFromMemory(String key) {
+        lock.lock();
+        try {
+            return lru.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void putInMemory(String key, float[] vector) {
+        lock.lock();
+        try {
+            lru.put(key, vector);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int size() {
+        lock.lock();
+        try {
+            return lru.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
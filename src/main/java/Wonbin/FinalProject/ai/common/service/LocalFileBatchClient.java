@@ -0,0 +1,67 @@
+package Wonbin.FinalProject.ai.common.service;
+
+import Wonbin.FinalProject.ai.common.dto.BatchStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.UUID;
+
+/**
+ * 🔥 로컬 파일 기반 Batch 클라이언트 (테스트 / 개발용 - OpenAI 호출 없음)
+ *
+ * - 제출: {dir}/{batchId}.input.jsonl 작성
+ * - 완료: 같은 디렉터리에 {batchId}.output.jsonl (실패분은 {batchId}.error.jsonl)이 생기면 completed
+ *   결과 파일 형식은 OpenAI Batch 결과와 동일 (custom_id, response.status_code, response.body)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "openai.batch.client", havingValue = "local")
+public class LocalFileBatchClient implements BatchClient {
+
+    private final Path directory;
+
+    public LocalFileBatchClient(@Value("${openai.batch.local-dir:build/openai-batch}") String directory) {
+        this.directory = Paths.get(directory);
+    }
+
+    @Override
+    public String submit(String jsonl) {
+        String batchId = "local_" + UUID.randomUUID();
+        try {
+            Files.createDirectories(directory);
+            Files.writeString(directory.resolve(batchId + ".input.jsonl"), jsonl, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Batch 요청 파일 저장 실패: " + batchId, e);
+        }
+
+        log.info("📦 Local batch submitted - file: {}", directory.resolve(batchId + ".input.jsonl"));
+        return batchId;
+    }
+
+    @Override
+    public BatchStatus getStatus(String batchId) {
+        String outputFile = batchId + ".output.jsonl";
+        String errorFile = batchId + ".error.jsonl";
+        if (!Files.exists(directory.resolve(outputFile))) {
+            return new BatchStatus("in_progress", null, null);
+        }
+        return new BatchStatus(
+                "completed",
+                outputFile,
+                Files.exists(directory.resolve(errorFile)) ? errorFile : null
+        );
+    }
+
+    @Override
+    public Path download(String fileId) {
+        return directory.resolve(fileId);
+    }
+}
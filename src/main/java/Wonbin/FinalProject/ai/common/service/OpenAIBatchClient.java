@@ -0,0 +1,130 @@
+package Wonbin.FinalProject.ai.common.service;
+
+import Wonbin.FinalProject.ai.common.dto.BatchStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * 🔥 OpenAI Batch API 클라이언트
+ * POST /files (purpose=batch) → POST /batches → GET /batches/{id} → GET /files/{id}/content
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "openai.batch.client", havingValue = "remote", matchIfMissing = true)
+public class OpenAIBatchClient implements BatchClient {
+
+    static final String CHAT_COMPLETIONS_URL = "/v1/chat/completions";
+
+    private final WebClient webClient;
+
+    public OpenAIBatchClient(@Qualifier("openAiWebClient") WebClient webClient) {
+        this.webClient = webClient;
+    }
+
+    @Override
+    public String submit(String jsonl) {
+        // 1. 요청 파일 업로드
+        MultipartBodyBuilder body = new MultipartBodyBuilder();
+        body.part("purpose", "batch");
+        body.part("file", jsonl.getBytes(StandardCharsets.UTF_8))
+                .filename("batch.jsonl")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM);
+
+        JsonNode file = webClient.post()
+                .uri("/files")
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .body(BodyInserters.fromMultipartData(body.build()))
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .block();
+        String inputFileId = requireText(file, "id");
+
+        // 2. 배치 생성 (24시간 내 처리, 실시간 호출보다 저렴)
+        JsonNode batch = webClient.post()
+                .uri("/batches")
+                .bodyValue(Map.of(
+                        "input_file_id", inputFileId,
+                        "endpoint", CHAT_COMPLETIONS_URL,
+                        "completion_window", "24h"
+                ))
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .block();
+        String batchId = requireText(batch, "id");
+
+        log.info("📦 OpenAI batch submitted - batchId: {}, inputFileId: {}", batchId, inputFileId);
+        return batchId;
+    }
+
+    @Override
+    public BatchStatus getStatus(String batchId) {
+        JsonNode batch = webClient.get()
+                .uri("/batches/{id}", batchId)
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .block();
+
+        return new BatchStatus(
+                requireText(batch, "status"),
+                textOrNull(batch, "output_file_id"),
+                textOrNull(batch, "error_file_id")
+        );
+    }
+
+    @Override
+    public Path download(String fileId) {
+        try {
+            Path file = Files.createTempFile("openai-batch-" + fileId, ".jsonl");
+            DataBufferUtils.write(
+                    webClient.get()
+                            .uri("/files/{id}/content", fileId)
+                            .retrieve()
+                            .bodyToFlux(DataBuffer.class),
+                    file
+            ).block();
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Batch 결과 파일 다운로드 실패: " + fileId, e);
+        }
+    }
+
+    @Override
+    public void release(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("⚠️ Failed to delete batch result file: {}", file, e);
+        }
+    }
+
+    private static String requireText(JsonNode node, String field) {
+        String value = textOrNull(node, field);
+        if (value == null) {
+            throw new IllegalStateException("OpenAI Batch 응답에 " + field + " 값이 없습니다.");
+        }
+        return value;
+    }
+
+    private static String textOrNull(JsonNode node, String field) {
+        if (node == null || node.path(field).isNull() || node.path(field).isMissingNode()) {
+            return null;
+        }
+        return node.get(field).asText();
+    }
+}
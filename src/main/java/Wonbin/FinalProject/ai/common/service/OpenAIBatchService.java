@@ -0,0 +1,211 @@
+package Wonbin.FinalProject.ai.common.service;
+
+import Wonbin.FinalProject.ai.common.domain.OpenAIBatchJob;
+import Wonbin.FinalProject.ai.common.dto.BatchRequest;
+import Wonbin.FinalProject.ai.common.dto.BatchStatus;
+import Wonbin.FinalProject.ai.common.dto.ChatCompletionRequest;
+import Wonbin.FinalProject.ai.common.dto.ChatCompletionResponse;
+import Wonbin.FinalProject.ai.common.repository.OpenAIBatchJobRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 🔥 OpenAI Batch API - 실시간 응답이 필요 없는 생성 작업(다음 날 퀘스트, 일기 요약)을 모아서 처리
+ *
+ * - submit(): 요청을 JSONL로 만들어 제출하고 작업(kind) 기록
+ * - pollSubmitted(): 주기적으로 상태 확인 → 완료되면 결과 파일을 한 줄씩 읽어 kind별 BatchResultHandler로 전달
+ * - Batch는 실시간 호출보다 저렴하고 rate limit도 따로 적용됨 (최대 24시간 내 완료)
+ * - 결과 반영(핸들러)은 블로킹 호출이 있으므로 폴링은 @Async로 taskExecutor에서 실행
+ *   (공용 @Scheduled 스레드를 잡고 있지 않음, 이전 폴링이 끝나지 않았으면 건너뜀)
+ */
+@Slf4j
+@Service
+public class OpenAIBatchService {
+
+    private final BatchClient batchClient;
+    private final OpenAIBatchJobRepository jobRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Map<String, BatchResultHandler> handlers;
+    private final AtomicBoolean polling = new AtomicBoolean();
+
+    public OpenAIBatchService(BatchClient batchClient,
+                              OpenAIBatchJobRepository jobRepository,
+                              TransactionTemplate transactionTemplate,
+                              ObjectMapper objectMapper,
+                              List<BatchResultHandler> handlers) {
+        this.batchClient = batchClient;
+        this.jobRepository = jobRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.handlers = handlers.stream()
+                .collect(Collectors.toMap(BatchResultHandler::kind, Function.identity()));
+    }
+
+    /**
+     * 요청 묶음 제출 → batch ID (요청이 없으면 null)
+     */
+    public String submit(String kind, List<BatchRequest> requests) {
+        if (!handlers.containsKey(kind)) {
+            throw new IllegalArgumentException("등록되지 않은 Batch 종류입니다: " + kind);
+        }
+        if (requests.isEmpty()) {
+            return null;
+        }
+
+        String batchId = batchClient.submit(toJsonl(requests));
+        transactionTemplate.executeWithoutResult(status -> jobRepository.save(OpenAIBatchJob.builder()
+                .batchId(batchId)
+                .kind(kind)
+                .requestCount(requests.size())
+                .build()));
+
+        log.info("📦 Batch submitted - kind: {}, requests: {}, batchId: {}", kind, requests.size(), batchId);
+        return batchId;
+    }
+
+    /**
+     * 제출된 작업 상태 확인 및 결과 반영
+     */
+    @Async
+    @Scheduled(fixedDelayString = "${openai.batch.poll-interval-ms:60000}",
+               initialDelayString = "${openai.batch.poll-interval-ms:60000}")
+    public void pollSubmitted() {
+        if (!polling.compareAndSet(false, true)) {
+            log.debug("Previous batch poll still running, skipping");
+            return;
+        }
+        try {
+            for (OpenAIBatchJob job : jobRepository.findByStatusOrderByIdAsc(OpenAIBatchJob.Status.SUBMITTED)) {
+                try {
+                    poll(job);
+                } catch (Exception e) {
+                    log.error("❌ Batch polling failed - batchId: {} (retry on next poll)", job.getBatchId(), e);
+                }
+            }
+        } finally {
+            polling.set(false);
+        }
+    }
+
+    private void poll(OpenAIBatchJob job) {
+        BatchStatus status = batchClient.getStatus(job.getBatchId());
+
+        if (status.isFailed()) {
+            log.warn("⚠️ Batch ended without results - batchId: {}, status: {}", job.getBatchId(), status.getStatus());
+            updateJob(job.getId(), j -> j.fail(status.getStatus()));
+            return;
+        }
+        if (!status.isCompleted() && !status.isExpiredWithResults()) {
+            return;  // 아직 처리 중
+        }
+
+        BatchResultHandler handler = handlers.get(job.getKind());
+        if (handler == null) {
+            log.error("❌ No handler for batch kind: {} (batchId: {})", job.getKind(), job.getBatchId());
+            updateJob(job.getId(), j -> j.fail("no handler: " + job.getKind()));
+            return;
+        }
+
+        ResultCount count = new ResultCount();
+        if (status.getOutputFileId() != null) {
+            dispatch(status.getOutputFileId(), handler, count);
+        }
+        if (status.getErrorFileId() != null) {
+            dispatch(status.getErrorFileId(), handler, count);
+        }
+
+        updateJob(job.getId(), j -> j.complete(count.succeeded, count.failed));
+        log.info("✅ Batch results applied - kind: {}, batchId: {}, succeeded: {}, failed: {}",
+                job.getKind(), job.getBatchId(), count.succeeded, count.failed);
+    }
+
+    /**
+     * 결과 파일을 한 줄씩 읽어 핸들러로 전달 (한 건 실패가 나머지 반영을 막지 않음)
+     */
+    private void dispatch(String fileId, BatchResultHandler handler, ResultCount count) {
+        Path file = batchClient.download(fileId);
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) continue;
+                dispatchLine(line, handler, count);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Batch 결과 파일 읽기 실패: " + fileId, e);
+        } finally {
+            batchClient.release(file);
+        }
+    }
+
+    private void dispatchLine(String line, BatchResultHandler handler, ResultCount count) {
+        String customId = null;
+        try {
+            JsonNode result = objectMapper.readTree(line);
+            customId = result.path("custom_id").asText();
+            JsonNode response = result.path("response");
+
+            if (response.path("status_code").asInt() != 200) {
+                String error = result.path("error").isMissingNode() || result.path("error").isNull()
+                        ? response.path("body").toString()
+                        : result.path("error").toString();
+                handler.onFailure(customId, error);
+                count.failed++;
+                return;
+            }
+
+            String content = objectMapper.treeToValue(response.path("body"), ChatCompletionResponse.class).getContent();
+            handler.onSuccess(customId, content);
+            count.succeeded++;
+
+        } catch (Exception e) {
+            log.error("❌ Failed to apply batch result - customId: {}", customId, e);
+            count.failed++;
+        }
+    }
+
+    private String toJsonl(List<BatchRequest> requests) {
+        StringBuilder jsonl = new StringBuilder();
+        for (BatchRequest request : requests) {
+            Map<String, Object> line = new LinkedHashMap<>();
+            line.put("custom_id", request.getCustomId());
+            line.put("method", "POST");
+            line.put("url", OpenAIBatchClient.CHAT_COMPLETIONS_URL);
+            line.put("body", ChatCompletionRequest.of(request.getMessages(), request.getOptions(), false));
+            try {
+                jsonl.append(objectMapper.writeValueAsString(line)).append('\n');
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Batch 요청 직렬화 실패: " + request.getCustomId(), e);
+            }
+        }
+        return jsonl.toString();
+    }
+
+    private void updateJob(Long jobId, Consumer<OpenAIBatchJob> update) {
+        transactionTemplate.executeWithoutResult(status -> jobRepository.findById(jobId).ifPresent(update));
+    }
+
+    private static class ResultCount {
+        int succeeded;
+        int failed;
+    }
+}
@@ -1,100 +1,143 @@
 package Wonbin.FinalProject.ai.common.service;
 
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpHeaders;
+import Wonbin.FinalProject.ai.common.dto.ChatCompletionRequest;
+import Wonbin.FinalProject.ai.common.dto.ChatCompletionResponse;
+import Wonbin.FinalProject.ai.common.dto.ChatOptions;
+import Wonbin.FinalProject.ai.common.dto.EmbeddingResponse;
+import Wonbin.FinalProject.ai.common.dto.Message;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
 import java.util.Map;
 
+@Slf4j
 @Service
 public class OpenAIService {
 
+    public static final String EMBEDDING_MODEL = "text-embedding-3-small";  // 가장 저렴한 모델
+
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_TYPE =
+            new ParameterizedTypeReference<>() {};
 
     private final WebClient webClient;
+    private final ObjectMapper objectMapper;
 
-    public OpenAIService(@Value("${openai.api-key}") String apiKey) {
-        this.webClient = WebClient.builder()
-                .baseUrl("https://api.openai.com/v1")
-                .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
-                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .build();
+    public OpenAIService(@Qualifier("openAiWebClient") WebClient webClient, ObjectMapper objectMapper) {
+        this.webClient = webClient;  // 커넥션 풀 / 타임아웃은 HttpClientConfig에서 설정
+        this.objectMapper = objectMapper;
     }
 
     // 대화할 때 필요한 프롬프트 및 AI 특성 조작 필요. 특히 우울감 있는 환자와 대화할 때 주의해야 할 것들 인지시킬 필요 있음
     // 대화 (저비용 모델)
     public Mono<String> chat(String prompt) {
-        Map<String, Object> body = Map.of(
-                "model", "gpt-4o-mini",
-                "messages", List.of(Map.of("role", "user", "content", prompt))
-        );
+        return chat(List.of(Message.user(prompt)), ChatOptions.defaults());
+    }
 
+    /**
+     * 🔥 대화 (system / user / assistant 메시지 목록)
+     * system 프롬프트를 맨 앞에 고정해 두면 같은 prefix가 OpenAI 프롬프트 캐시에 걸림
+     */
+    public Mono<String> chat(List<Message> messages, ChatOptions options) {
         return webClient.post()
                 .uri("/chat/completions")
-                .bodyValue(body)
+                .bodyValue(ChatCompletionRequest.of(messages, options, false))
                 .retrieve()
-                .bodyToMono(Map.class)
-                .map(resp -> {
-                    List<Map<String, Object>> choices = (List<Map<String, Object>>) resp.get("choices");
-                    Map<String, Object> msg = (Map<String, Object>) choices.get(0).get("message");
-                    return (String) msg.get("content");
-                });
+                .bodyToMono(ChatCompletionResponse.class)
+                .doOnNext(this::logUsage)
+                .mapNotNull(ChatCompletionResponse::getContent);
     }
 
+    /**
+     * 🔥 대화 (스트리밍)
+     * stream 옵션으로 요청하고, 도착하는 토큰(delta.content)을 순서대로 흘려보냄
+     */
+    public Flux<String> chatStream(String prompt) {
+        return chatStream(List.of(Message.user(prompt)), ChatOptions.defaults());
+    }
 
-    // 요약 (상위 모델)
-    public Mono<String> summarize(String text) {
-        Map<String, Object> body = Map.of(
-                "model", "gpt-4o",
-                "messages", List.of(
-                        Map.of("role", "system", "content", "다음 대화를 하루 일기 형식으로 요약해줘."),
-                        Map.of("role", "user", "content", text)
-                )
-        );
-
+    /**
+     * 🔥 대화 (스트리밍, 메시지 목록)
+     */
+    public Flux<String> chatStream(List<Message> messages, ChatOptions options) {
         return webClient.post()
                 .uri("/chat/completions")
-                .bodyValue(body)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(ChatCompletionRequest.of(messages, options, true))
                 .retrieve()
-                .bodyToMono(Map.class)
-                .map(resp -> {
-                    List<Map<String, Object>> choices = (List<Map<String, Object>>) resp.get("choices");
-                    Map<String, Object> msg = (Map<String, Object>) choices.get(0).get("message");
-                    return (String) msg.get("content");
-                });
+                .bodyToFlux(SSE_TYPE)
+                .mapNotNull(ServerSentEvent::data)
+                .takeWhile(data -> !"[DONE]".equals(data))
+                .mapNotNull(this::extractDeltaContent);
+    }
+
+    /**
+     * 스트리밍 청크에서 delta.content 추출 (role 청크 등 내용이 없으면 null)
+     */
+    private String extractDeltaContent(String chunk) {
+        try {
+            return objectMapper.readValue(chunk, ChatCompletionResponse.class).getDeltaContent();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("OpenAI 스트리밍 응답 파싱 실패: " + chunk, e);
+        }
+    }
+
+    private void logUsage(ChatCompletionResponse response) {
+        ChatCompletionResponse.Usage usage = response.getUsage();
+        if (usage != null) {
+            log.debug("OpenAI usage - prompt: {}, cached: {}, completion: {}",
+                    usage.getPromptTokens(), usage.getCachedTokens(), usage.getCompletionTokens());
+        }
+    }
+
+    // 요약 (상위 모델)
+    public Mono<String> summarize(String text) {
+        return chat(
+                List.of(
+                        Message.system("다음 대화를 하루 일기 형식으로 요약해줘."),
+                        Message.user(text)
+                ),
+                ChatOptions.builder().model("gpt-4o").build()
+        );
     }
 
     /**
      * 🔥 텍스트를 벡터로 변환 (Embedding)
-     * 텍스트의 의미를 1536개 숫자 배열로 표현
+     * 텍스트의 의미를 1536개 숫자 배열로 표현 (반복되는 텍스트는 CachedEmbeddingService 사용)
      */
     public float[] createEmbedding(String text) {
+        return createEmbeddingAsync(text).block();
+    }
+
+    /**
+     * 🔥 텍스트를 벡터로 변환 (논블로킹)
+     */
+    public Mono<float[]> createEmbeddingAsync(String text) {
         Map<String, Object> body = Map.of(
-                "model", "text-embedding-3-small",  // 가장 저렴한 모델
+                "model", EMBEDDING_MODEL,
                 "input", text
         );
 
-        Map<String, Object> response = webClient.post()
+        return webClient.post()
                 .uri("/embeddings")
                 .bodyValue(body)
                 .retrieve()
-                .bodyToMono(Map.class)
-                .block();
-
-        // 응답에서 벡터 추출
-        List<Map<String, Object>> data = 
-            (List<Map<String, Object>>) response.get("data");
-        List<Double> embedding = 
-            (List<Double>) data.get(0).get("embedding");
-
-        // float 배열로 변환
-        float[] result = new float[embedding.size()];
-        for (int i = 0; i < embedding.size(); i++) {
-            result[i] = embedding.get(i).floatValue();
-        }
-        return result;
+                .bodyToMono(EmbeddingResponse.class)
+                // 응답에서 벡터 추출 (float[]로 바로 역직렬화)
+                .map(response -> {
+                    if (response.getData() == null || response.getData().isEmpty()) {
+                        throw new IllegalStateException("OpenAI Embedding 응답이 비어 있습니다.");
+                    }
+                    return response.getData().get(0).getEmbedding();
+                });
     }
 }
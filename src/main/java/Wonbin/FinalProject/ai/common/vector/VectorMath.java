@@ -0,0 +1,93 @@
+package Wonbin.FinalProject.ai.common.vector;
+
+/**
+ * 🔥 벡터 연산 유틸리티 (Embedding 유사도 계산용)
+ *
+ * - JDK Vector API(jdk.incubator.vector)를 사용할 수 있으면 SIMD 경로 사용
+ *   (JVM 옵션 --add-modules jdk.incubator.vector 필요)
+ * - 모듈이 없거나 -Dvector.simd.disabled=true 이면 스칼라 루프로 동작
+ * - norm은 저장된 값을 재사용 → 비교 한 번에 내적(fma) 한 번만 계산
+ */
+public final class VectorMath {
+
+    private static final boolean SIMD_ENABLED = detectSimd();
+
+    private VectorMath() {
+    }
+
+    /**
+     * 내적 (A · B)
+     */
+    public static float dot(float[] a, float[] b) {
+        if (a.length != b.length) {
+            throw new IllegalArgumentException("Vectors must have same length");
+        }
+        return SIMD_ENABLED ? SimdKernel.dot(a, b) : dotScalar(a, b);
+    }
+
+    /**
+     * L2 norm (||A||)
+     */
+    public static float norm(float[] a) {
+        return (float) Math.sqrt(dot(a, a));
+    }
+
+    /**
+     * 코사인 유사도 (미리 계산한 norm 사용)
+     * 두 벡터 사이의 각도를 측정 (1에 가까울수록 유사)
+     */
+    public static double cosine(float[] a, float normA, float[] b, float normB) {
+        if (normA == 0f || normB == 0f) {
+            return 0.0;
+        }
+        return dot(a, b) / ((double) normA * normB);
+    }
+
+    /**
+     * 현재 SIMD 경로 사용 여부
+     */
+    public static boolean isSimdEnabled() {
+        return SIMD_ENABLED;
+    }
+
+    /**
+     * 스칼라 내적 (누산기 4개로 파이프라인 활용)
+     */
+    static float dotScalar(float[] a, float[] b) {
+        float s0 = 0f, s1 = 0f, s2 = 0f, s3 = 0f;
+        int i = 0;
+        int upper = a.length & ~3;
+        for (; i < upper; i += 4) {
+            s0 += a[i] * b[i];
+            s1 += a[i + 1] * b[i + 1];
+            s2 += a[i + 2] * b[i + 2];
+            s3 += a[i + 3] * b[i + 3];
+        }
+        float sum = (s0 + s1) + (s2 + s3);
+        for (; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+
+    /**
+     * SIMD 내적 (벤치마크용 - Vector API 모듈이 없으면 NoClassDefFoundError)
+     */
+    static float dotSimd(float[] a, float[] b) {
+        return SimdKernel.dot(a, b);
+    }
+
+    private static boolean detectSimd() {
+        if (Boolean.getBoolean("vector.simd.disabled")) {
+            return false;
+        }
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return false;
+        }
+        try {
+            return SimdKernel.isSupported();
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -3,15 +3,14 @@ package Wonbin.FinalProject.ai.diary.controller;
 import Wonbin.FinalProject.ai.diary.dto.ChatHistoryResponse;
 import Wonbin.FinalProject.ai.diary.dto.ChatMessageRequest;
 import Wonbin.FinalProject.ai.diary.dto.ChatMessageResponse;
+import Wonbin.FinalProject.ai.diary.dto.CursorPageResponse;
 import Wonbin.FinalProject.ai.diary.service.ChatMessageService;
-import Wonbin.FinalProject.auth.domain.User;
-import Wonbin.FinalProject.auth.repository.UserRepository;
+import Wonbin.FinalProject.auth.dto.AuthenticatedUser;
+import Wonbin.FinalProject.auth.resolver.LoginUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -20,33 +19,19 @@ import org.springframework.web.bind.annotation.*;
 @Slf4j
 public class ChatMessageController {
 
-    private final UserRepository userRepository;
     private final ChatMessageService chatMessageService;
 
-    /**
-     * Helper: email로 userId 조회
-     */
-    private Long getUserIdFromEmail(String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        return user.getId();
-    }
-
     /**
      * 챗봇 메시지 저장
      * POST /api/diary/{diaryId}/chat
      */
     @PostMapping
     public ResponseEntity<ChatMessageResponse> saveMessage(
-            @AuthenticationPrincipal String email,
+            @LoginUser AuthenticatedUser user,
             @PathVariable Long diaryId,
             @Valid @RequestBody ChatMessageRequest request
     ) {
-        if (email == null) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-        }
-
-        Long userId = getUserIdFromEmail(email);
+        Long userId = user.getId();
         ChatMessageResponse response = chatMessageService.saveMessage(userId, diaryId, request);
 
         log.info("챗봇 메시지 저장 - userId: {}, diaryId: {}", userId, diaryId);
@@ -59,33 +44,44 @@ public class ChatMessageController {
      */
     @GetMapping
     public ResponseEntity<ChatHistoryResponse> getChatHistory(
-            @AuthenticationPrincipal String email,
+            @LoginUser AuthenticatedUser user,
             @PathVariable Long diaryId
     ) {
-        if (email == null) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-        }
-
-        Long userId = getUserIdFromEmail(email);
+        Long userId = user.getId();
         ChatHistoryResponse response = chatMessageService.getChatHistory(userId, diaryId);
 
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 대화 내역 조회 (최신 메시지부터 커서 기반 페이지, 페이지 안은 시간순)
+     * GET /api/diary/{diaryId}/chat/page?size=20
+     * GET /api/diary/{diaryId}/chat/page?cursor=456&size=20 (이전 응답의 nextCursor)
+     */
+    @GetMapping("/page")
+    public ResponseEntity<CursorPageResponse<ChatMessageResponse>> getChatHistoryPage(
+            @LoginUser AuthenticatedUser user,
+            @PathVariable Long diaryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        Long userId = user.getId();
+        CursorPageResponse<ChatMessageResponse> response =
+                chatMessageService.getChatHistoryPage(userId, diaryId, cursor, size);
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 대화 내역 삭제
      * DELETE /api/diary/{diaryId}/chat
      */
     @DeleteMapping
     public ResponseEntity<Void> deleteChatHistory(
-            @AuthenticationPrincipal String email,
+            @LoginUser AuthenticatedUser user,
             @PathVariable Long diaryId
     ) {
-        if (email == null) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-        }
-
-        Long userId = getUserIdFromEmail(email);
+        Long userId = user.getId();
         chatMessageService.deleteChatHistory(userId, diaryId);
 
         log.info("챗봇 대화 내역 삭제 - userId: {}, diaryId: {}", userId, diaryId);
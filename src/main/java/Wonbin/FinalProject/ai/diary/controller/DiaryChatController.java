@@ -5,15 +5,16 @@ import Wonbin.FinalProject.ai.diary.dto.ChatResponse;
 import Wonbin.FinalProject.ai.diary.dto.ChatHistoryResponse;
 import Wonbin.FinalProject.ai.diary.dto.SummaryChatResponse;
 import Wonbin.FinalProject.ai.diary.service.DiaryChatService;
-import Wonbin.FinalProject.auth.domain.User;
-import Wonbin.FinalProject.auth.repository.UserRepository;
+import Wonbin.FinalProject.auth.dto.AuthenticatedUser;
+import Wonbin.FinalProject.auth.resolver.LoginUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 
 import java.time.LocalDate;
 
@@ -24,16 +25,6 @@ import java.time.LocalDate;
 public class DiaryChatController {
 
     private final DiaryChatService diaryChatService;
-    private final UserRepository userRepository;
-
-    /**
-     * Helper: email로 userId 조회
-     */
-    private Long getUserIdFromEmail(String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        return user.getId();
-    }
 
     /**
      * 일기 기반 대화 시작 (자동 저장)
@@ -43,20 +34,34 @@ public class DiaryChatController {
      */
     @PostMapping("/start")
     public ResponseEntity<ChatResponse> startChat(
-            @AuthenticationPrincipal String email,
+            @LoginUser AuthenticatedUser user,
             @RequestParam LocalDate date
     ) {
-        if (email == null) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-        }
-
-        Long userId = getUserIdFromEmail(email);
+        Long userId = user.getId();
         ChatResponse response = diaryChatService.startDiaryChat(userId, date);
         
         log.info("일기 기반 채팅 시작 - userId: {}, date: {}", userId, date);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 일기 기반 대화 시작 (스트리밍, 자동 저장)
+     * POST /api/diary/chat/start/stream?date=2025-01-15
+     *
+     * AI 응답을 token 이벤트로 즉시 전달하고, 완료 시 done 이벤트(ChatResponse)를 보냅니다.
+     */
+    @PostMapping(value = "/start/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<Flux<ServerSentEvent<Object>>> startChatStream(
+            @LoginUser AuthenticatedUser user,
+            @RequestParam LocalDate date
+    ) {
+        Long userId = user.getId();
+        Flux<ServerSentEvent<Object>> events = diaryChatService.streamStartDiaryChat(userId, date);
+
+        log.info("일기 기반 스트리밍 채팅 시작 - userId: {}, date: {}", userId, date);
+        return ResponseEntity.ok(events);
+    }
+
     /**
      * 대화 계속하기 (자동 저장)
      * POST /api/diary/chat/{diaryId}
@@ -65,35 +70,46 @@ public class DiaryChatController {
      */
     @PostMapping("/{diaryId}")
     public ResponseEntity<ChatResponse> chat(
-            @AuthenticationPrincipal String email,
+            @LoginUser AuthenticatedUser user,
             @PathVariable Long diaryId,
             @Valid @RequestBody ChatRequest request
     ) {
-        if (email == null) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-        }
-
-        Long userId = getUserIdFromEmail(email);
+        Long userId = user.getId();
         ChatResponse response = diaryChatService.continueChat(userId, diaryId, request);
         
         log.info("채팅 메시지 전송 및 저장 - userId: {}, diaryId: {}", userId, diaryId);
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 대화 계속하기 (스트리밍, 자동 저장)
+     * POST /api/diary/chat/{diaryId}/stream
+     *
+     * AI 응답을 token 이벤트로 즉시 전달하고, 완료 시 done 이벤트(ChatResponse)를 보냅니다.
+     */
+    @PostMapping(value = "/{diaryId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<Flux<ServerSentEvent<Object>>> chatStream(
+            @LoginUser AuthenticatedUser user,
+            @PathVariable Long diaryId,
+            @Valid @RequestBody ChatRequest request
+    ) {
+        Long userId = user.getId();
+        Flux<ServerSentEvent<Object>> events = diaryChatService.streamContinueChat(userId, diaryId, request);
+
+        log.info("스트리밍 채팅 메시지 전송 - userId: {}, diaryId: {}", userId, diaryId);
+        return ResponseEntity.ok(events);
+    }
+
     /**
      * 대화 요약 생성
      * POST /api/diary/chat/{diaryId}/summary
      */
     @PostMapping("/{diaryId}/summary")
     public ResponseEntity<SummaryChatResponse> summarizeChat(
-            @AuthenticationPrincipal String email,
+            @LoginUser AuthenticatedUser user,
             @PathVariable Long diaryId
     ) {
-        if (email == null) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-        }
-
-        Long userId = getUserIdFromEmail(email);
+        Long userId = user.getId();
         SummaryChatResponse response = diaryChatService.summarizeChat(userId, diaryId);
 
         log.info("대화 요약 생성 - userId: {}, diaryId: {}", userId, diaryId);
@@ -106,14 +122,10 @@ public class DiaryChatController {
      */
     @GetMapping("/{diaryId}")
     public ResponseEntity<ChatHistoryResponse> getChatHistory(
-            @AuthenticationPrincipal String email,
+            @LoginUser AuthenticatedUser user,
             @PathVariable Long diaryId
     ) {
-        if (email == null) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-        }
-
-        Long userId = getUserIdFromEmail(email);
+        Long userId = user.getId();
         ChatHistoryResponse response = diaryChatService.getChatHistory(userId, diaryId);
 
         log.info("대화 내역 조회 - userId: {}, diaryId: {}", userId, diaryId);
@@ -126,14 +138,10 @@ public class DiaryChatController {
      */
     @DeleteMapping("/{diaryId}")
     public ResponseEntity<Void> deleteChatHistory(
-            @AuthenticationPrincipal String email,
+            @LoginUser AuthenticatedUser user,
             @PathVariable Long diaryId
     ) {
-        if (email == null) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-        }
-
-        Long userId = getUserIdFromEmail(email);
+        Long userId = user.getId();
         diaryChatService.deleteChatHistory(userId, diaryId);
 
         log.info("대화 내역 삭제 - userId: {}, diaryId: {}", userId, diaryId);
@@ -1,19 +1,19 @@
 package Wonbin.FinalProject.ai.diary.controller;
 
 import Wonbin.FinalProject.ai.diary.dto.ChatResponse;
+import Wonbin.FinalProject.ai.diary.dto.CursorPageResponse;
+import Wonbin.FinalProject.ai.diary.dto.DiaryListItemResponse;
 import Wonbin.FinalProject.ai.diary.dto.DiaryRequest;
 import Wonbin.FinalProject.ai.diary.dto.DiaryResponse;
 import Wonbin.FinalProject.ai.diary.service.DiaryChatService;
 import Wonbin.FinalProject.ai.diary.service.DiaryService;
-import Wonbin.FinalProject.auth.domain.User;
-import Wonbin.FinalProject.auth.repository.UserRepository;
+import Wonbin.FinalProject.auth.dto.AuthenticatedUser;
+import Wonbin.FinalProject.auth.resolver.LoginUser;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
@@ -27,16 +27,6 @@ public class DiaryController {
 
     private final DiaryService diaryService;
     private final DiaryChatService diaryChatService;
-    private final UserRepository userRepository;
-
-    /**
-     * Helper: email로 userId 조회
-     */
-    private Long getUserIdFromEmail(String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        return user.getId();
-    }
 
     /**
      * 일기 저장 후 AI 대화 시작
@@ -44,16 +34,11 @@ public class DiaryController {
      */
     @PostMapping("/save-and-chat")
     public ResponseEntity<ChatResponse> saveDiaryAndStartChat(
-            @AuthenticationPrincipal String email,
+            @LoginUser AuthenticatedUser user,
             @Valid @RequestBody DiaryRequest request
     ) {
-        log.info("[save-and-chat] email={}", email);
-        
-        if (email == null) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
-        }
-
-        Long userId = getUserIdFromEmail(email);
+        Long userId = user.getId();
+        log.info("[save-and-chat] userId={}", userId);
 
         DiaryResponse savedDiary = diaryService.saveDiary(userId, request);
         ChatResponse chatResponse = diaryChatService.startDiaryChat(userId, savedDiary.getDiaryDate());
@@ -68,10 +53,10 @@ public class DiaryController {
      */
     @PostMapping
     public ResponseEntity<DiaryResponse> saveDiary(
-            @AuthenticationPrincipal String email,
+            @LoginUser AuthenticatedUser user,
             @Valid @RequestBody DiaryRequest request
     ) {
-        Long userId = getUserIdFromEmail(email);
+        Long userId = user.getId();
         DiaryResponse response = diaryService.saveDiary(userId, request);
 
         log.info("일기 저장 완료 - userId: {}", userId);
@@ -84,10 +69,10 @@ public class DiaryController {
      */
     @GetMapping
     public ResponseEntity<DiaryResponse> getDiary(
-            @AuthenticationPrincipal String email,
+            @LoginUser AuthenticatedUser user,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
     ) {
-        Long userId = getUserIdFromEmail(email);
+        Long userId = user.getId();
         DiaryResponse response = diaryService.getDiary(userId, date);
 
         return ResponseEntity.ok(response);
@@ -99,25 +84,42 @@ public class DiaryController {
      */
     @GetMapping("/all")
     public ResponseEntity<List<DiaryResponse>> getAllDiaries(
-            @AuthenticationPrincipal String email
+            @LoginUser AuthenticatedUser user
     ) {
-        Long userId = getUserIdFromEmail(email);
+        Long userId = user.getId();
         List<DiaryResponse> response = diaryService.getAllDiaries(userId);
 
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 일기 목록 조회 (최신순, 커서 기반 페이지 - 본문 제외)
+     * GET /api/diary/list?size=20
+     * GET /api/diary/list?cursor=2025-01-15_123&size=20 (이전 응답의 nextCursor)
+     */
+    @GetMapping("/list")
+    public ResponseEntity<CursorPageResponse<DiaryListItemResponse>> getDiaryPage(
+            @LoginUser AuthenticatedUser user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        Long userId = user.getId();
+        CursorPageResponse<DiaryListItemResponse> response = diaryService.getDiaryPage(userId, cursor, size);
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 특정 기간의 일기 조회
      * GET /api/diary/range?startDate=2025-01-01&endDate=2025-01-31
      */
     @GetMapping("/range")
     public ResponseEntity<List<DiaryResponse>> getDiariesByDateRange(
-            @AuthenticationPrincipal String email,
+            @LoginUser AuthenticatedUser user,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
     ) {
-        Long userId = getUserIdFromEmail(email);
+        Long userId = user.getId();
         List<DiaryResponse> response = diaryService.getDiariesByDateRange(userId, startDate, endDate);
 
         return ResponseEntity.ok(response);
@@ -129,10 +131,10 @@ public class DiaryController {
      */
     @DeleteMapping("/{diaryId}")
     public ResponseEntity<Void> deleteDiary(
-            @AuthenticationPrincipal String email,
+            @LoginUser AuthenticatedUser user,
             @PathVariable Long diaryId
     ) {
-        Long userId = getUserIdFromEmail(email);
+        Long userId = user.getId();
         diaryService.deleteDiary(userId, diaryId);
 
         log.info("일기 삭제 완료 - userId: {}, diaryId: {}", userId, diaryId);
@@ -3,6 +3,7 @@ package Wonbin.FinalProject.ai.diary.domain;
 import Wonbin.FinalProject.auth.domain.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -14,6 +15,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
+@DynamicUpdate  // 변경된 컬럼만 UPDATE (백그라운드 요약 갱신과 덮어쓰기 방지)
 public class Diary {
 
     @Id
@@ -38,6 +40,13 @@ public class Diary {
     @Column(columnDefinition = "TEXT")
     private String summaryText;
 
+    // 🔥 누적 대화 요약 (백그라운드에서 오래된 메시지를 접어 넣음)
+    @Column(columnDefinition = "TEXT")
+    private String runningSummary;
+
+    // runningSummary에 반영된 마지막 메시지 ID (이후 메시지만 원문으로 사용)
+    private Long summarizedUntilMessageId;
+
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
@@ -63,6 +72,13 @@ public class Diary {
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * 누적 요약에 반영된 마지막 메시지 ID (없으면 0)
+     */
+    public long getSummaryWatermark() {
+        return summarizedUntilMessageId != null ? summarizedUntilMessageId : 0L;
+    }
+
     /**
      * 요약 텍스트 업데이트
      */
@@ -70,4 +86,12 @@ public class Diary {
         this.summaryText = summaryText;
         this.updatedAt = LocalDateTime.now();
     }
+
+    /**
+     * 누적 요약 초기화 (대화 내역 삭제 시)
+     */
+    public void resetRunningSummary() {
+        this.runningSummary = null;
+        this.summarizedUntilMessageId = null;
+    }
 }
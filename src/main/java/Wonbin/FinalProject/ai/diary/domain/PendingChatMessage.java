@@ -0,0 +1,17 @@
+package Wonbin.FinalProject.ai.diary.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장 대기 중인 채팅 메시지 (일괄 INSERT / write-behind 큐용 - 엔티티 아님)
+ */
+public record PendingChatMessage(Long diaryId, String role, String content, LocalDateTime createdAt) {
+
+    public static PendingChatMessage user(Long diaryId, String content, LocalDateTime createdAt) {
+        return new PendingChatMessage(diaryId, "user", content, createdAt);
+    }
+
+    public static PendingChatMessage assistant(Long diaryId, String content) {
+        return new PendingChatMessage(diaryId, "assistant", content, LocalDateTime.now());
+    }
+}
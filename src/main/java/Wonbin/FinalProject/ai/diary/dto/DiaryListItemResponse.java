@@ -0,0 +1,36 @@
+package Wonbin.FinalProject.ai.diary.dto;
+
+import Wonbin.FinalProject.ai.diary.repository.DiaryListView;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일기 목록 항목 (본문 / 요약 제외 - 상세는 GET /api/diary?date=)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DiaryListItemResponse {
+
+    private Long id;
+    private LocalDate diaryDate;
+    private String mood; // Enum key 값
+    private boolean hasSummary; // 챗봇 대화 요약 여부
+    private LocalDateTime createdAt;
+
+    public static DiaryListItemResponse from(DiaryListView view) {
+        return DiaryListItemResponse.builder()
+                .id(view.getId())
+                .diaryDate(view.getDiaryDate())
+                .mood(view.getMood().getKey())
+                .hasSummary(view.getHasSummary())
+                .createdAt(view.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,35 @@
+package Wonbin.FinalProject.ai.diary.repository;
+
+import Wonbin.FinalProject.ai.diary.domain.PendingChatMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 🔥 채팅 메시지 일괄 INSERT (JDBC batch)
+ * ChatMessage는 IDENTITY라 Hibernate batch가 적용되지 않음 → JDBC batch로 여러 메시지를 한 번에 저장
+ * rewriteBatchedStatements=true면 multi-row INSERT 1개로 전송 (auto-increment ID는 순서대로 부여)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageBatchRepository {
+
+    private static final String INSERT_SQL =
+            "insert into chat_messages (diary_id, role, content, created_at) values (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<PendingChatMessage> messages) {
+        if (messages.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, messages, messages.size(), (ps, message) -> {
+            ps.setLong(1, message.diaryId());
+            ps.setString(2, message.role());
+            ps.setString(3, message.content());
+            ps.setTimestamp(4, Timestamp.valueOf(message.createdAt()));
+        });
+    }
+}
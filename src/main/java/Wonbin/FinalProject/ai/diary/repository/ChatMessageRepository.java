@@ -2,6 +2,7 @@ package Wonbin.FinalProject.ai.diary.repository;
 
 import Wonbin.FinalProject.ai.diary.domain.ChatMessage;
 import Wonbin.FinalProject.ai.diary.domain.Diary;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -14,6 +15,31 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
      * 특정 일기의 모든 대화 메시지 조회 (시간순)
      */
     List<ChatMessage> findByDiaryOrderByCreatedAtAsc(Diary diary);
+
+    /**
+     * 특정 일기의 최근 메시지 조회 (최신순, 개수 제한) - 대화 컨텍스트용
+     */
+    List<ChatMessage> findByDiaryIdOrderByIdDesc(Long diaryId, Pageable pageable);
+
+    /**
+     * 특정 일기에서 beforeId 이전 메시지 조회 (최신순, 개수 제한) - 대화 내역 페이지 (keyset)
+     */
+    List<ChatMessage> findByDiaryIdAndIdLessThanOrderByIdDesc(Long diaryId, Long beforeId, Pageable pageable);
+
+    /**
+     * 특정 일기에서 afterId 이후 최근 메시지 조회 (최신순, 개수 제한) - 요약에 반영되지 않은 메시지
+     */
+    List<ChatMessage> findByDiaryIdAndIdGreaterThanOrderByIdDesc(Long diaryId, Long afterId, Pageable pageable);
+
+    /**
+     * 특정 일기에서 afterId 이후 메시지 조회 (시간순)
+     */
+    List<ChatMessage> findByDiaryIdAndIdGreaterThanOrderByIdAsc(Long diaryId, Long afterId);
+
+    /**
+     * 특정 일기에서 afterId 이후 메시지 수
+     */
+    long countByDiaryIdAndIdGreaterThan(Long diaryId, Long afterId);
     
     /**
      * 특정 일기의 대화 메시지 삭제
@@ -0,0 +1,22 @@
+package Wonbin.FinalProject.ai.diary.repository;
+
+import Wonbin.FinalProject.ai.diary.domain.Mood;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일기 목록용 프로젝션 (content / summaryText 등 TEXT 컬럼 제외)
+ */
+public interface DiaryListView {
+
+    Long getId();
+
+    LocalDate getDiaryDate();
+
+    Mood getMood();
+
+    boolean getHasSummary();
+
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,15 @@
+package Wonbin.FinalProject.ai.diary.repository;
+
+import Wonbin.FinalProject.ai.diary.domain.Mood;
+
+import java.time.LocalDate;
+
+/**
+ * 캘린더용 프로젝션 (날짜 + 감정만)
+ */
+public interface DiaryMoodView {
+
+    LocalDate getDiaryDate();
+
+    Mood getMood();
+}
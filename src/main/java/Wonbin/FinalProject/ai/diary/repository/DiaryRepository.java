@@ -2,7 +2,11 @@ package Wonbin.FinalProject.ai.diary.repository;
 
 import Wonbin.FinalProject.ai.diary.domain.Diary;
 import Wonbin.FinalProject.auth.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -27,10 +31,62 @@ public interface DiaryRepository extends JpaRepository<Diary, Long> {
      */
     List<Diary> findByUserOrderByDiaryDateDesc(User user);
     
+    /**
+     * 🔥 일기 목록 첫 페이지 (최신순, TEXT 컬럼 제외 프로젝션)
+     */
+    @Query("select d.id as id, d.diaryDate as diaryDate, d.mood as mood, " +
+           "(case when d.summaryText is not null then true else false end) as hasSummary, d.createdAt as createdAt " +
+           "from Diary d where d.user.id = :userId " +
+           "order by d.diaryDate desc, d.id desc")
+    List<DiaryListView> findListFirstPage(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 🔥 일기 목록 다음 페이지 (keyset: 커서(diaryDate, id)보다 오래된 일기)
+     * OFFSET 없이 (user_id, diary_date) 인덱스에서 바로 이어서 읽으므로 페이지 위치와 관계없이 일정한 비용
+     */
+    @Query("select d.id as id, d.diaryDate as diaryDate, d.mood as mood, " +
+           "(case when d.summaryText is not null then true else false end) as hasSummary, d.createdAt as createdAt " +
+           "from Diary d where d.user.id = :userId " +
+           "and (d.diaryDate < :cursorDate or (d.diaryDate = :cursorDate and d.id < :cursorId)) " +
+           "order by d.diaryDate desc, d.id desc")
+    List<DiaryListView> findListPageBefore(@Param("userId") Long userId,
+                                           @Param("cursorDate") LocalDate cursorDate,
+                                           @Param("cursorId") Long cursorId,
+                                           Pageable pageable);
+
     /**
      * 특정 사용자의 날짜 범위 일기 조회
      */
     List<Diary> findByUserAndDiaryDateBetweenOrderByDiaryDateDesc(
         User user, LocalDate startDate, LocalDate endDate
     );
+
+    /**
+     * 🔥 캘린더용 날짜 / 감정 조회 (엔티티 로딩 없이 두 컬럼만, (user_id, diary_date) 인덱스 범위 조회)
+     */
+    @Query("select d.diaryDate as diaryDate, d.mood as mood from Diary d " +
+           "where d.user.id = :userId and d.diaryDate between :startDate and :endDate " +
+           "order by d.diaryDate")
+    List<DiaryMoodView> findMoodsByUserIdAndDateRange(@Param("userId") Long userId,
+                                                      @Param("startDate") LocalDate startDate,
+                                                      @Param("endDate") LocalDate endDate);
+
+    /**
+     * 특정 날짜의 요약 없는 일기 조회 (Batch 요약 대상)
+     */
+    List<Diary> findByDiaryDateAndSummaryTextIsNull(LocalDate diaryDate);
+
+    /**
+     * 누적 요약 갱신 (다른 요약 작업이 먼저 반영했다면 0건 - watermark 비교)
+     * 요약 도중 대화 내역이 삭제됐다면 0건 - until 메시지가 남아 있을 때만 반영
+     * (삭제 후 watermark가 다시 0이 되므로 watermark 비교만으로는 삭제된 대화의 요약이 되살아남)
+     */
+    @Modifying
+    @Query("update Diary d set d.runningSummary = :summary, d.summarizedUntilMessageId = :until " +
+           "where d.id = :diaryId and coalesce(d.summarizedUntilMessageId, 0) = :expected " +
+           "and exists (select m.id from ChatMessage m where m.id = :until and m.diary.id = :diaryId)")
+    int updateRunningSummary(@Param("diaryId") Long diaryId,
+                             @Param("summary") String summary,
+                             @Param("until") Long until,
+                             @Param("expected") Long expected);
 }
@@ -2,18 +2,22 @@ package Wonbin.FinalProject.ai.diary.service;
 
 import Wonbin.FinalProject.ai.diary.domain.ChatMessage;
 import Wonbin.FinalProject.ai.diary.domain.Diary;
+import Wonbin.FinalProject.ai.diary.domain.PendingChatMessage;
 import Wonbin.FinalProject.ai.diary.dto.ChatHistoryResponse;
 import Wonbin.FinalProject.ai.diary.dto.ChatMessageRequest;
 import Wonbin.FinalProject.ai.diary.dto.ChatMessageResponse;
+import Wonbin.FinalProject.ai.diary.dto.CursorPageResponse;
 import Wonbin.FinalProject.ai.diary.repository.ChatMessageRepository;
 import Wonbin.FinalProject.ai.diary.repository.DiaryRepository;
-import Wonbin.FinalProject.auth.domain.User;
-import Wonbin.FinalProject.auth.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -25,16 +29,13 @@ public class ChatMessageService {
 
     private final ChatMessageRepository chatMessageRepository;
     private final DiaryRepository diaryRepository;
-    private final UserRepository userRepository;
+    private final ChatMessageWriter chatMessageWriter;
 
     /**
      * 챗봇 메시지 저장
      */
     @Transactional
     public ChatMessageResponse saveMessage(Long userId, Long diaryId, ChatMessageRequest request) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
         Diary diary = diaryRepository.findById(diaryId)
                 .orElseThrow(() -> new IllegalArgumentException("일기를 찾을 수 없습니다."));
 
@@ -56,13 +57,29 @@ public class ChatMessageService {
         return ChatMessageResponse.from(message);
     }
 
+    /**
+     * 🔥 한 턴의 사용자 메시지 + AI 응답을 함께 저장 (INSERT 왕복 1번)
+     * 본인 확인은 호출 측에서 이미 끝난 경우에만 사용 (일기 재조회 없음)
+     * userMessage가 null이면 AI 응답만 저장 (대화 시작)
+     * chat.persistence.mode=write-behind면 큐에 넣고 바로 반환
+     * (클래스 기본값이 readOnly라 쓰기 트랜잭션 명시 - 읽기 전용 커넥션에서는 INSERT 거부)
+     */
+    @Transactional
+    public void saveTurn(Long diaryId, String userMessage, LocalDateTime userMessageAt, String aiResponse) {
+        List<PendingChatMessage> messages = new ArrayList<>(2);
+        if (userMessage != null) {
+            messages.add(PendingChatMessage.user(diaryId, userMessage, userMessageAt));
+        }
+        messages.add(PendingChatMessage.assistant(diaryId, aiResponse));
+
+        chatMessageWriter.write(messages);
+        log.info("챗봇 메시지 저장 - diaryId: {}, count: {}", diaryId, messages.size());
+    }
+
     /**
      * 특정 일기의 전체 대화 내역 조회
      */
     public ChatHistoryResponse getChatHistory(Long userId, Long diaryId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
         Diary diary = diaryRepository.findById(diaryId)
                 .orElseThrow(() -> new IllegalArgumentException("일기를 찾을 수 없습니다."));
 
@@ -83,14 +100,77 @@ public class ChatMessageService {
                 .build();
     }
 
+    /**
+     * 사용자 메시지만 저장 (스트리밍 응답이 완료되기 전에 끊긴 경우)
+     * 본인 확인은 호출 측에서 이미 끝난 경우에만 사용
+     */
+    @Transactional
+    public void saveUserMessage(Long diaryId, String userMessage, LocalDateTime userMessageAt) {
+        chatMessageWriter.write(List.of(PendingChatMessage.user(diaryId, userMessage, userMessageAt)));
+        log.info("챗봇 메시지 저장 - diaryId: {}, count: 1", diaryId);
+    }
+
+    /**
+     * 🔥 대화 내역 조회 (커서 기반 페이지)
+     * 최신 메시지부터 size개씩 거슬러 올라가며 조회, 각 페이지 안은 시간순
+     * 커서 = 이전 페이지에서 가장 오래된 메시지 id
+     */
+    public CursorPageResponse<ChatMessageResponse> getChatHistoryPage(Long userId, Long diaryId, String cursor, Integer size) {
+        Diary diary = diaryRepository.findById(diaryId)
+                .orElseThrow(() -> new IllegalArgumentException("일기를 찾을 수 없습니다."));
+
+        // 본인의 일기인지 확인
+        if (!diary.getUser().getId().equals(userId)) {
+            throw new IllegalArgumentException("본인의 일기만 접근할 수 있습니다.");
+        }
+
+        int pageSize = DiaryService.clampPageSize(size);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);  // 1개 더 조회해서 다음 페이지 여부 판단
+
+        List<ChatMessage> rows = (cursor == null || cursor.isBlank())
+                ? chatMessageRepository.findByDiaryIdOrderByIdDesc(diaryId, limit)
+                : chatMessageRepository.findByDiaryIdAndIdLessThanOrderByIdDesc(diaryId, parseMessageCursor(cursor), limit);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<ChatMessage> page = new ArrayList<>(hasNext ? rows.subList(0, pageSize) : rows);
+        String nextCursor = hasNext ? String.valueOf(page.get(page.size() - 1).getId()) : null;
+        Collections.reverse(page);  // 화면 표시용 시간순
+
+        return CursorPageResponse.<ChatMessageResponse>builder()
+                .items(page.stream().map(ChatMessageResponse::from).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 특정 일기의 최근 메시지 limit개 조회 (최신순)
+     * 본인 확인은 호출 측에서 이미 끝난 경우에만 사용 (일기/사용자 재조회 없음)
+     */
+    public List<ChatMessage> getRecentMessages(Long diaryId, int limit) {
+        return chatMessageRepository.findByDiaryIdOrderByIdDesc(diaryId, PageRequest.of(0, limit));
+    }
+
+    /**
+     * 누적 요약에 아직 반영되지 않은 최근 메시지 limit개 조회 (최신순)
+     */
+    public List<ChatMessage> getRecentMessagesAfter(Long diaryId, long afterId, int limit) {
+        return chatMessageRepository.findByDiaryIdAndIdGreaterThanOrderByIdDesc(
+                diaryId, afterId, PageRequest.of(0, limit));
+    }
+
+    /**
+     * 누적 요약 이후의 메시지 전체 조회 (시간순)
+     */
+    public List<ChatMessage> getMessagesAfter(Long diaryId, long afterId) {
+        return chatMessageRepository.findByDiaryIdAndIdGreaterThanOrderByIdAsc(diaryId, afterId);
+    }
+
     /**
      * 특정 일기의 대화 내역 삭제
      */
     @Transactional
     public void deleteChatHistory(Long userId, Long diaryId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
         Diary diary = diaryRepository.findById(diaryId)
                 .orElseThrow(() -> new IllegalArgumentException("일기를 찾을 수 없습니다."));
 
@@ -99,7 +179,17 @@ public class ChatMessageService {
             throw new IllegalArgumentException("본인의 일기만 삭제할 수 있습니다.");
         }
 
+        chatMessageWriter.discard(diaryId);  // 아직 저장 안 된 메시지도 함께 제거 (write-behind)
         chatMessageRepository.deleteByDiary(diary);
+        diary.resetRunningSummary();
         log.info("챗봇 대화 내역 삭제 - diaryId: {}", diaryId);
     }
+
+    private Long parseMessageCursor(String cursor) {
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
 }
@@ -0,0 +1,234 @@
+package Wonbin.FinalProject.ai.diary.service;
+
+import Wonbin.FinalProject.ai.diary.domain.PendingChatMessage;
+import Wonbin.FinalProject.ai.diary.repository.ChatMessageBatchRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 🔥 채팅 메시지 저장 (한 턴의 사용자 + AI 메시지를 한 번에)
+ *
+ * chat.persistence.mode
+ * - sync (기본): 호출 시점에 일괄 INSERT 1번 → 응답 전에 저장 완료
+ * - write-behind: 큐에 넣고 바로 반환, flush-interval-ms마다 모아서 저장
+ *   (응답 지연 최소화 대신 서버가 비정상 종료되면 큐에 남은 메시지 유실 가능, 정상 종료 시에는 모두 저장)
+ *
+ * ⚠️ 메시지 ID 순서 = 대화 순서 (대화 맥락 / 누적 요약 watermark가 id 순서에 의존)
+ * - 저장 실패한 묶음은 버리거나 큐 뒤로 보내지 않고 맨 앞에서 다시 시도 (그 뒤 메시지는 대기)
+ * - 큐가 가득 차면 앞선 메시지를 먼저 저장한 뒤 호출한 스레드에서 저장
+ *
+ * flush는 전용 스레드(chat-flush)에서 실행 → 공용 @Scheduled 스레드의 다른 작업(Batch 폴링 등)에 막히지 않음
+ * 대화 맥락 / 누적 요약을 읽기 전에는 flushDiary로 해당 일기의 대기 메시지를 먼저 저장
+ */
+@Slf4j
+@Component
+public class ChatMessageWriter {
+
+    private final ChatMessageBatchRepository batchRepository;
+    private final boolean writeBehind;
+    private final int batchSize;
+    private final LinkedBlockingQueue<PendingChatMessage> queue;
+    private final Counter dropped;
+
+    // flush 직렬화 + 재시도 대기 중인 묶음 (큐보다 먼저 저장)
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final List<PendingChatMessage> retryBatch = new ArrayList<>();
+    private final AtomicInteger retryBatchSize = new AtomicInteger();  // 메트릭용 (락 없이 읽음)
+
+    private final ScheduledExecutorService flushExecutor;  // write-behind일 때만
+
+    public ChatMessageWriter(ChatMessageBatchRepository batchRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${chat.persistence.mode:sync}") String mode,
+                             @Value("${chat.persistence.batch-size:100}") int batchSize,
+                             @Value("${chat.persistence.queue-capacity:10000}") int queueCapacity,
+                             @Value("${chat.persistence.flush-interval-ms:200}") long flushIntervalMs) {
+        this.batchRepository = batchRepository;
+        this.writeBehind = "write-behind".equalsIgnoreCase(mode);
+        this.batchSize = batchSize;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("chat.persistence.queue.size", this, writer -> writer.queue.size() + writer.retryBatchSize.get())
+                .description("Chat messages waiting for write-behind flush")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("chat.persistence.dropped")
+                .description("Chat messages that could not be stored and were discarded")
+                .register(meterRegistry);
+
+        if (writeBehind) {
+            this.flushExecutor = Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, "chat-flush");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flushExecutor.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            this.flushExecutor = null;
+        }
+    }
+
+    /**
+     * 메시지 저장 (같은 턴의 메시지는 순서대로 함께 저장)
+     */
+    public void write(List<PendingChatMessage> messages) {
+        if (!writeBehind) {
+            batchRepository.insertAll(messages);
+            return;
+        }
+
+        int offered = 0;
+        while (offered < messages.size() && queue.offer(messages.get(offered))) {
+            offered++;
+        }
+        if (offered == messages.size()) return;
+
+        // 큐가 가득 참 → 앞선 메시지를 모두 저장한 뒤 나머지를 바로 저장 (순서 유지)
+        List<PendingChatMessage> overflow = messages.subList(offered, messages.size());
+        log.warn("⚠️ Chat write-behind queue full, writing {} message(s) synchronously", overflow.size());
+        flushLock.lock();
+        try {
+            if (!drainAll()) {
+                throw new IllegalStateException("대화 메시지를 저장하지 못했습니다. 잠시 후 다시 시도해주세요.");
+            }
+            batchRepository.insertAll(overflow);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 특정 일기의 저장 대기 메시지 제거 (대화 내역 / 일기 삭제 시)
+     */
+    public void discard(Long diaryId) {
+        flushLock.lock();
+        try {
+            retryBatch.removeIf(message -> message.diaryId().equals(diaryId));
+            retryBatchSize.set(retryBatch.size());
+            queue.removeIf(message -> message.diaryId().equals(diaryId));
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 특정 일기의 대기 메시지가 있으면 바로 저장 (대화 맥락 / 누적 요약 조회 전에 호출)
+     * 트랜잭션 밖에서 호출 (읽기 전용 트랜잭션 안이면 INSERT가 거부됨)
+     */
+    public void flushDiary(Long diaryId) {
+        if (!writeBehind) return;
+
+        flushLock.lock();
+        try {
+            boolean pending = retryBatch.stream().anyMatch(message -> message.diaryId().equals(diaryId))
+                    || queue.stream().anyMatch(message -> message.diaryId().equals(diaryId));
+            if (pending && !drainAll()) {
+                log.warn("⚠️ Pending chat messages for diary {} are not stored yet, context may be stale", diaryId);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 큐에 쌓인 메시지 저장 (write-behind, chat-flush 스레드)
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            drainAll();
+        } catch (Exception e) {
+            log.error("❌ Chat write-behind flush failed", e);  // 예외가 새면 주기 실행이 멈추므로 여기서 처리
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        if (flushExecutor != null) {
+            flushExecutor.shutdown();
+        }
+        flushLock.lock();
+        try {
+            if (retryBatch.isEmpty() && queue.isEmpty()) return;
+
+            log.info("Flushing {} pending chat message(s) before shutdown", retryBatch.size() + queue.size());
+            if (!drainAll()) {
+                int lost = retryBatch.size() + queue.size();
+                dropped.increment(lost);
+                log.error("❌ Dropping {} unsaved chat message(s) at shutdown", lost);
+                retryBatch.clear();
+                retryBatchSize.set(0);
+                queue.clear();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 재시도 묶음 → 큐 순서로 저장 (flushLock 보유 상태에서 호출)
+     * 실패하면 아직 저장 안 된 메시지만 retryBatch에 두고 false (다음 flush에서 거기부터 다시 시도)
+     */
+    private boolean drainAll() {
+        while (true) {
+            if (retryBatch.isEmpty()) {
+                queue.drainTo(retryBatch, batchSize);
+                retryBatchSize.set(retryBatch.size());
+                if (retryBatch.isEmpty()) return true;
+            }
+            try {
+                batchRepository.insertAll(retryBatch);  // 묶음 INSERT 1번 → 전부 저장되거나 전부 실패
+                retryBatch.clear();
+                retryBatchSize.set(0);
+            } catch (DataIntegrityViolationException e) {
+                // 그 사이 삭제된 일기 등 - 문제 있는 메시지만 제외
+                if (!insertOneByOne()) return false;
+            } catch (Exception e) {
+                log.error("❌ Chat write-behind flush failed, retrying the same {} message(s) next interval",
+                        retryBatch.size(), e);
+                return false;
+            }
+        }
+    }
+
+    /**
+     * retryBatch를 한 건씩 저장, 저장했거나 버린 메시지는 바로 retryBatch에서 제거
+     * (도중에 DB 오류가 나도 이미 저장된 메시지가 다음 flush에서 다시 저장되지 않음)
+     */
+    private boolean insertOneByOne() {
+        Iterator<PendingChatMessage> iterator = retryBatch.iterator();
+        while (iterator.hasNext()) {
+            PendingChatMessage message = iterator.next();
+            try {
+                batchRepository.insertAll(List.of(message));
+            } catch (DataIntegrityViolationException e) {
+                dropped.increment();
+                log.warn("⚠️ Dropping chat message for diary {} (diary no longer exists)", message.diaryId());
+            } catch (Exception e) {
+                log.error("❌ Chat write-behind flush failed, retrying the remaining {} message(s) next interval",
+                        retryBatch.size(), e);
+                return false;
+            }
+            iterator.remove();
+            retryBatchSize.decrementAndGet();
+        }
+        return true;
+    }
+}
@@ -0,0 +1,97 @@
+package Wonbin.FinalProject.ai.diary.service;
+
+import Wonbin.FinalProject.ai.common.dto.Message;
+import Wonbin.FinalProject.ai.diary.domain.ChatMessage;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 🔥 대화 맥락(컨텍스트) 메시지 구성
+ * 최신 메시지부터 거꾸로 담다가 토큰 예산을 넘으면 멈춤 → 대화가 길어져도 턴당 비용 일정
+ *
+ * - 입력: 최신순으로 조회한 최근 maxMessages개 메시지 (ChatMessageRepository 윈도우 조회)
+ * - 출력: 오래된 순 메시지 목록 (select) 또는 OpenAI 요청 메시지 목록 (assemble)
+ */
+@Component
+public class ConversationContextBuilder {
+
+    private static final int MESSAGE_OVERHEAD_TOKENS = 4;  // 화자 표시, 줄바꿈 등
+
+    private final int tokenBudget;
+
+    @Getter
+    private final int maxMessages;
+
+    public ConversationContextBuilder(@Value("${chat.context.token-budget:1500}") int tokenBudget,
+                                      @Value("${chat.context.max-messages:20}") int maxMessages) {
+        this.tokenBudget = tokenBudget;
+        this.maxMessages = maxMessages;
+    }
+
+    /**
+     * 최신순 메시지 목록에서 토큰 예산 내 메시지 선택 (결과는 오래된 순)
+     */
+    public List<ChatMessage> select(List<ChatMessage> newestFirst) {
+        Deque<ChatMessage> selected = new ArrayDeque<>();
+        int used = 0;
+        for (ChatMessage msg : newestFirst) {
+            int tokens = estimateTokens(msg.getContent()) + MESSAGE_OVERHEAD_TOKENS;
+            if (used + tokens > tokenBudget && !selected.isEmpty()) {
+                break;  // 예산 초과 (가장 최근 메시지 하나는 항상 포함)
+            }
+            used += tokens;
+            selected.addFirst(msg);
+
+            if (selected.size() >= maxMessages) {
+                break;
+            }
+        }
+        return new ArrayList<>(selected);
+    }
+
+    /**
+     * 대화 이어가기 요청 메시지 구성
+     * system(상담사 프롬프트) → system(누적 요약, 있으면) → 예산 내 최근 대화 원문(user/assistant, 오래된 순)
+     */
+    public List<Message> assemble(String systemPrompt, String runningSummary, List<ChatMessage> newestFirst) {
+        List<ChatMessage> recent = select(newestFirst);
+
+        List<Message> messages = new ArrayList<>(recent.size() + 2);
+        messages.add(Message.system(systemPrompt));
+
+        // 오래된 대화는 누적 요약으로 대체
+        if (runningSummary != null) {
+            messages.add(Message.system("이전 대화 요약:\n" + runningSummary));
+        }
+
+        for (ChatMessage msg : recent) {
+            messages.add(msg.getRole().equals("user")
+                    ? Message.user(msg.getContent())
+                    : Message.assistant(msg.getContent()));
+        }
+        return messages;
+    }
+
+    /**
+     * 토큰 수 추정 (토크나이저 없이 근사)
+     * 한글 등 비ASCII 문자는 약 1토큰, ASCII는 약 4글자당 1토큰
+     */
+    static int estimateTokens(String text) {
+        int ascii = 0;
+        int other = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) < 0x80) {
+                ascii++;
+            } else {
+                other++;
+            }
+        }
+        return other + (ascii + 3) / 4;
+    }
+}
@@ -0,0 +1,125 @@
+package Wonbin.FinalProject.ai.diary.service;
+
+import Wonbin.FinalProject.ai.common.dto.ChatOptions;
+import Wonbin.FinalProject.ai.common.dto.Message;
+import Wonbin.FinalProject.ai.common.service.OpenAIService;
+import Wonbin.FinalProject.ai.diary.domain.ChatMessage;
+import Wonbin.FinalProject.ai.diary.domain.Diary;
+import Wonbin.FinalProject.ai.diary.repository.ChatMessageRepository;
+import Wonbin.FinalProject.ai.diary.repository.DiaryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 🔥 누적 대화 요약 (Rolling Summary)
+ * 요약에 반영되지 않은 메시지가 keepRecent + foldEvery개를 넘으면,
+ * 최근 keepRecent개를 제외한 메시지를 기존 요약에 접어 넣음 (백그라운드)
+ *
+ * → 프롬프트에는 "짧은 누적 요약 + 최근 원문"만 들어가므로 대화가 길어져도 토큰 수가 일정
+ */
+@Slf4j
+@Component
+public class ConversationSummarizer {
+
+    private final OpenAIService openAIService;
+    private final DiaryRepository diaryRepository;
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageWriter chatMessageWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final int foldEvery;
+    private final int keepRecent;
+
+    private static final String FOLD_GUIDE =
+            "사용자와 심리 상담사의 대화를 요약한 내용과, 그 이후 이어진 대화가 주어집니다. " +
+                    "기존 요약에 이어진 대화 내용을 반영해 하나의 요약으로 갱신해주세요. " +
+                    "사용자가 이야기한 주요 사건, 감정 변화, 상담사가 던진 질문을 빠뜨리지 말고 " +
+                    "5문장 이내로 간결하게 작성하세요.";
+
+    // 같은 일기에 대한 요약 작업 중복 실행 방지
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    public ConversationSummarizer(OpenAIService openAIService,
+                                  DiaryRepository diaryRepository,
+                                  ChatMessageRepository chatMessageRepository,
+                                  ChatMessageWriter chatMessageWriter,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${chat.summary.fold-every:6}") int foldEvery,
+                                  @Value("${chat.summary.keep-recent:10}") int keepRecent) {
+        this.openAIService = openAIService;
+        this.diaryRepository = diaryRepository;
+        this.chatMessageRepository = chatMessageRepository;
+        this.chatMessageWriter = chatMessageWriter;
+        this.transactionTemplate = transactionTemplate;
+        this.foldEvery = foldEvery;
+        this.keepRecent = keepRecent;
+    }
+
+    /**
+     * 필요하면 오래된 메시지를 누적 요약에 반영 (비동기)
+     */
+    @Async
+    public void foldIfNeeded(Long diaryId) {
+        if (!inFlight.add(diaryId)) {
+            return;  // 이미 요약 중
+        }
+        try {
+            fold(diaryId);
+        } catch (Exception e) {
+            log.error("❌ Failed to fold conversation summary - diaryId: {}", diaryId, e);
+        } finally {
+            inFlight.remove(diaryId);
+        }
+    }
+
+    private void fold(Long diaryId) {
+        chatMessageWriter.flushDiary(diaryId);  // 방금 턴이 아직 큐에 있으면 먼저 저장 (write-behind)
+
+        Diary diary = diaryRepository.findById(diaryId).orElse(null);
+        if (diary == null) return;
+
+        long watermark = diary.getSummaryWatermark();
+        long pending = chatMessageRepository.countByDiaryIdAndIdGreaterThan(diaryId, watermark);
+        if (pending < keepRecent + foldEvery) {
+            return;
+        }
+
+        List<ChatMessage> unsummarized = chatMessageRepository.findByDiaryIdAndIdGreaterThanOrderByIdAsc(diaryId, watermark);
+        List<ChatMessage> toFold = unsummarized.subList(0, Math.max(0, unsummarized.size() - keepRecent));
+        if (toFold.isEmpty()) return;
+
+        String summary = openAIService.chat(
+                List.of(Message.system(FOLD_GUIDE), Message.user(buildFoldInput(diary.getRunningSummary(), toFold))),
+                ChatOptions.defaults()
+        ).block();
+        Long until = toFold.get(toFold.size() - 1).getId();
+
+        Integer updated = transactionTemplate.execute(status ->
+                diaryRepository.updateRunningSummary(diaryId, summary, until, watermark));
+
+        if (updated != null && updated > 0) {
+            log.info("🧾 Conversation summary folded - diaryId: {}, messages: {}, until: {}",
+                    diaryId, toFold.size(), until);
+        }
+    }
+
+    private String buildFoldInput(String previousSummary, List<ChatMessage> messages) {
+        StringBuilder conversation = new StringBuilder();
+        for (ChatMessage msg : messages) {
+            String speaker = msg.getRole().equals("user") ? "사용자" : "상담사";
+            conversation.append(speaker).append(": ").append(msg.getContent()).append("\n");
+        }
+
+        return String.format(
+                "기존 요약:\n%s\n\n이어진 대화:\n%s",
+                previousSummary != null ? previousSummary : "없음 (첫 요약)",
+                conversation
+        );
+    }
+}
@@ -1,6 +1,10 @@
 package Wonbin.FinalProject.ai.diary.service;
 
+import Wonbin.FinalProject.ai.common.dto.BatchRequest;
+import Wonbin.FinalProject.ai.common.dto.ChatOptions;
+import Wonbin.FinalProject.ai.common.dto.Message;
 import Wonbin.FinalProject.ai.common.service.OpenAIService;
+import Wonbin.FinalProject.ai.diary.domain.ChatMessage;
 import Wonbin.FinalProject.ai.diary.domain.Diary;
 import Wonbin.FinalProject.ai.diary.domain.Mood;
 import Wonbin.FinalProject.ai.diary.dto.*;
@@ -9,10 +13,23 @@ import Wonbin.FinalProject.auth.domain.User;
 import Wonbin.FinalProject.auth.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
@@ -23,31 +40,182 @@ public class DiaryChatService {
     private final DiaryRepository diaryRepository;
     private final UserRepository userRepository;
     private final ChatMessageService chatMessageService; // ChatMessageService 통합!
+    private final ConversationContextBuilder contextBuilder;
+    private final ConversationSummarizer conversationSummarizer;
+    private final ChatMessageWriter chatMessageWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    private static final ChatOptions COUNSELOR_OPTIONS = ChatOptions.builder()
+            .temperature(0.7)
+            .maxTokens(400)  // 2-3문장 응답
+            .build();
+
+    private static final String CONTINUE_GUIDE =
+            "자연스럽게 대화를 이어가며 공감하고, 필요하다면 적절한 질문을 던져주세요.";
+
+    private static final String SUMMARY_GUIDE =
+            "다음은 사용자와 심리 상담사의 대화 내역입니다. " +
+                    "대화를 3-5문장으로 요약해주세요. 다음 내용을 포함해야 합니다:\n" +
+                    "1. 사용자가 나눈 주요 이야기\n" +
+                    "2. 사용자의 감정 상태\n" +
+                    "3. 대화를 통해 얻은 인사이트나 깨달음\n\n" +
+                    "따뜻하고 공감하는 톤으로 작성하되, 객관적으로 요약해주세요.";
 
     /**
      * 일기 기반 대화 시작 (DB 저장 포함)
      * 일기 내용과 감정을 기반으로 첫 AI 응답 생성 및 저장
+     * 🔥 조회 → LLM 호출(트랜잭션 밖) → 저장 (DB 커넥션을 LLM 응답 대기 동안 잡고 있지 않음)
      */
-    @Transactional
     public ChatResponse startDiaryChat(Long userId, LocalDate date) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        // 1. 조회 (짧은 읽기 트랜잭션)
+        ChatTurn turn = readOnly(() -> {
+            User user = userRepository.getReferenceById(userId);  // 인증 단계에서 확인된 사용자 (SELECT 없이 참조)
+
+            Diary diary = diaryRepository.findByUserAndDiaryDate(user, date)
+                    .orElseThrow(() -> new IllegalArgumentException("해당 날짜의 일기를 찾을 수 없습니다."));
+            return new ChatTurn(diary.getId(), diary.getMood(), buildInitialMessages(diary));
+        });
+
+        // 2. OpenAI API 호출 (트랜잭션 밖)
+        String aiResponse = openAIService.chat(turn.messages(), COUNSELOR_OPTIONS).block();
+
+        log.info("AI 응답 받음: {}", aiResponse); // 🔥 응답 확인
+
+        // 3. AI 응답 DB에 저장
+        chatMessageService.saveTurn(turn.diaryId(), null, null, aiResponse);
+
+        log.info("일기 기반 대화 시작 및 저장 - userId: {}, diaryId: {}, mood: {}",
+                userId, turn.diaryId(), turn.mood().getKey());
 
-        Diary diary = diaryRepository.findByUserAndDiaryDate(user, date)
-                .orElseThrow(() -> new IllegalArgumentException("해당 날짜의 일기를 찾을 수 없습니다."));
+        return ChatResponse.builder()
+                .diaryId(turn.diaryId())
+                .message(aiResponse)
+                .mood(turn.mood().getKey())
+                .build();
+    }
 
+    /**
+     * 일기 기반 대화 시작 (스트리밍)
+     * 토큰이 도착하는 대로 SSE로 전달하고, 스트림이 끝나면 전체 응답을 DB에 저장
+     */
+    public Flux<ServerSentEvent<Object>> streamStartDiaryChat(Long userId, LocalDate date) {
+        // 조회 (짧은 읽기 트랜잭션 - 스트리밍 동안 커넥션을 잡지 않음)
+        ChatTurn turn = readOnly(() -> {
+            User user = userRepository.getReferenceById(userId);  // 인증 단계에서 확인된 사용자 (SELECT 없이 참조)
+
+            Diary diary = diaryRepository.findByUserAndDiaryDate(user, date)
+                    .orElseThrow(() -> new IllegalArgumentException("해당 날짜의 일기를 찾을 수 없습니다."));
+            return new ChatTurn(diary.getId(), diary.getMood(), buildInitialMessages(diary));
+        });
+
+        return streamAndSave(userId, turn.diaryId(), turn.mood(), null, null,
+                openAIService.chatStream(turn.messages(), COUNSELOR_OPTIONS));
+    }
+
+    /**
+     * 대화 계속하기 (스트리밍)
+     * 사용자 메시지와 AI 응답은 스트림 완료 후 함께 저장
+     * 완료 전에 클라이언트가 끊거나 오류가 나면 사용자 메시지만 저장 (중간까지 받은 AI 응답은 저장하지 않음)
+     */
+    public Flux<ServerSentEvent<Object>> streamContinueChat(Long userId, Long diaryId, ChatRequest request) {
+        chatMessageWriter.flushDiary(diaryId);  // 이전 턴이 아직 큐에 있으면 먼저 저장 (write-behind)
+
+        LocalDateTime userMessageAt = LocalDateTime.now();
+
+        // 검증 + 대화 맥락 구성 (짧은 읽기 트랜잭션)
+        ChatTurn turn = readOnly(() -> {
+            Diary diary = diaryRepository.findById(diaryId)
+                    .orElseThrow(() -> new IllegalArgumentException("일기를 찾을 수 없습니다."));
+
+            // 본인의 일기인지 확인
+            if (!diary.getUser().getId().equals(userId)) {
+                throw new IllegalArgumentException("본인의 일기만 접근할 수 있습니다.");
+            }
+            return new ChatTurn(diaryId, diary.getMood(), buildContinueMessages(diary, request.getMessage()));
+        });
+
+        return streamAndSave(userId, diaryId, turn.mood(), request.getMessage(), userMessageAt,
+                openAIService.chatStream(turn.messages(), COUNSELOR_OPTIONS));
+    }
+
+    /**
+     * 토큰 스트림을 SSE 이벤트로 변환하고, 완료 시 user(있으면) + assistant 메시지 저장 후 done 이벤트 전송
+     * - token: 응답 조각
+     * - done : 저장된 전체 응답 (ChatResponse)
+     * done 전에 취소 / 오류로 끝나면 사용자 메시지(있으면)만 저장
+     * 저장 경로는 saveClaimed를 먼저 선점한 쪽 하나만 실행 (턴 저장 도중 취소돼도 사용자 메시지가 두 번 저장되지 않음)
+     */
+    private Flux<ServerSentEvent<Object>> streamAndSave(Long userId, Long diaryId, Mood mood,
+                                                        String userMessage, LocalDateTime userMessageAt,
+                                                        Flux<String> tokens) {
+        return Flux.defer(() -> {
+            StringBuilder fullResponse = new StringBuilder();
+            AtomicBoolean saveClaimed = new AtomicBoolean();
+
+            Flux<ServerSentEvent<Object>> tokenEvents = tokens
+                    .doOnNext(fullResponse::append)
+                    .map(token -> ServerSentEvent.<Object>builder(token).event("token").build());
+
+            // JDBC 호출이므로 이벤트 루프가 아닌 boundedElastic에서 저장
+            Mono<ServerSentEvent<Object>> doneEvent = Mono.fromCallable(() -> {
+                        if (!saveClaimed.compareAndSet(false, true)) {
+                            return null;  // 이미 취소되어 사용자 메시지만 저장 중
+                        }
+
+                        String aiResponse = fullResponse.toString();
+                        try {
+                            chatMessageService.saveTurn(diaryId, userMessage, userMessageAt, aiResponse);
+                        } catch (RuntimeException e) {
+                            // 턴 저장이 롤백됐으므로 이 경로에서 사용자 메시지만이라도 저장
+                            if (userMessage != null) {
+                                saveUserMessageOnly(diaryId, userMessage, userMessageAt, SignalType.ON_ERROR);
+                            }
+                            throw e;
+                        }
+
+                        log.info("스트리밍 응답 저장 - userId: {}, diaryId: {}, length: {}",
+                                userId, diaryId, aiResponse.length());
+                        conversationSummarizer.foldIfNeeded(diaryId);
+
+                        ChatResponse response = ChatResponse.builder()
+                                .diaryId(diaryId)
+                                .message(aiResponse)
+                                .mood(mood.getKey())
+                                .build();
+                        return ServerSentEvent.<Object>builder(response).event("done").build();
+                    })
+                    .subscribeOn(Schedulers.boundedElastic());
+
+            return tokenEvents.concatWith(doneEvent)
+                    .doFinally(signal -> {
+                        if (userMessage == null || !saveClaimed.compareAndSet(false, true)) return;
+                        Schedulers.boundedElastic().schedule(() -> saveUserMessageOnly(diaryId, userMessage, userMessageAt, signal));
+                    });
+        });
+    }
+
+    private void saveUserMessageOnly(Long diaryId, String userMessage, LocalDateTime userMessageAt, SignalType signal) {
+        try {
+            chatMessageService.saveUserMessage(diaryId, userMessage, userMessageAt);
+            log.info("스트리밍 중단({}) - 사용자 메시지만 저장 - diaryId: {}", signal, diaryId);
+        } catch (Exception e) {
+            log.error("❌ Failed to save user message after interrupted stream - diaryId: {}", diaryId, e);
+        }
+    }
+
+    /**
+     * 일기 기반 첫 대화 메시지 생성 (system: 상담사 / user: 일기 내용)
+     */
+    private List<Message> buildInitialMessages(Diary diary) {
         Mood mood = diary.getMood();
         String content = diary.getContent();
 
         log.info("일기 내용 확인 - mood: {}, content: {}", mood.getKey(), content); // 🔥 디버깅용
 
-        // 시스템 프롬프트 생성 (상담사 느낌)
-        String systemPrompt = buildCounselorPrompt(mood);
-
         // 🔥 일기 기반 첫 대화 시작 (프롬프트 개선)
-        String initialPrompt = String.format(
-                "%s\n\n" +
-                        "사용자가 방금 다음과 같은 일기를 작성했습니다:\n" +
+        String diaryPrompt = String.format(
+                "사용자가 방금 다음과 같은 일기를 작성했습니다:\n" +
                         "===================\n" +
                         "감정: %s\n" +
                         "내용:\n%s\n" +
@@ -55,30 +223,32 @@ public class DiaryChatService {
                         "위 일기의 구체적인 내용을 언급하며 공감하는 대화를 시작해주세요. " +
                         "일기에 나온 구체적인 상황이나 감정에 대해 자연스럽게 질문해주세요. " +
                         "절대 일반적인 질문을 하지 말고, 일기 내용과 직접 연관된 대화를 시작하세요.",
-                systemPrompt,
                 getMoodDisplayName(mood),  // "행복" 같은 한글 표현
                 content
         );
 
-        log.info("프롬프트 전송:\n{}", initialPrompt); // 🔥 프롬프트 확인
-
-        // OpenAI API 호출
-        String aiResponse = openAIService.chat(initialPrompt).block();
-
-        log.info("AI 응답 받음: {}", aiResponse); // 🔥 응답 확인
-
-        // AI 응답 DB에 저장
-        ChatMessageRequest assistantMessage = new ChatMessageRequest("assistant", aiResponse);
-        chatMessageService.saveMessage(userId, diary.getId(), assistantMessage);
-
-        log.info("일기 기반 대화 시작 및 저장 - userId: {}, diaryId: {}, mood: {}",
-                userId, diary.getId(), mood.getKey());
+        log.info("프롬프트 전송:\n{}", diaryPrompt); // 🔥 프롬프트 확인
+        return List.of(
+                Message.system(buildCounselorPrompt(mood)),
+                Message.user(diaryPrompt)
+        );
+    }
 
-        return ChatResponse.builder()
-                .diaryId(diary.getId())
-                .message(aiResponse)
-                .mood(mood.getKey())
-                .build();
+    /**
+     * 대화 이어가기 메시지 생성
+     * system(상담사, 감정별 고정) → system(누적 요약) → 최근 대화 원문(user/assistant)
+     * 고정 system 프롬프트가 항상 맨 앞에 오므로 OpenAI 프롬프트 캐시 대상이 됨
+     * 이번 사용자 메시지는 아직 저장 전이라 (AI 응답과 함께 저장) 최신 메시지로 직접 추가
+     */
+    private List<Message> buildContinueMessages(Diary diary, String userMessage) {
+        // 요약에 반영되지 않은 최근 N개 메시지만 조회 → 토큰 예산 내에서 선택
+        List<ChatMessage> newestFirst = new ArrayList<>(contextBuilder.getMaxMessages());
+        newestFirst.add(ChatMessage.builder().role("user").content(userMessage).build());
+        newestFirst.addAll(chatMessageService.getRecentMessagesAfter(
+                diary.getId(), diary.getSummaryWatermark(), contextBuilder.getMaxMessages() - 1));
+
+        return contextBuilder.assemble(buildCounselorPrompt(diary.getMood()) + "\n\n" + CONTINUE_GUIDE,
+                diary.getRunningSummary(), newestFirst);
     }
 
     /**
@@ -98,81 +268,127 @@ public class DiaryChatService {
     /**
      * 대화 계속하기 (DB 저장 포함)
      * 사용자 메시지와 AI 응답을 모두 DB에 자동 저장
+     * 🔥 [검증 + 맥락 조회] → LLM 호출(트랜잭션 밖) → 사용자 메시지 + AI 응답 함께 저장
      */
-    @Transactional
     public ChatResponse continueChat(Long userId, Long diaryId, ChatRequest request) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-        Diary diary = diaryRepository.findById(diaryId)
-                .orElseThrow(() -> new IllegalArgumentException("일기를 찾을 수 없습니다."));
-
-        // 본인의 일기인지 확인
-        if (!diary.getUser().getId().equals(userId)) {
-            throw new IllegalArgumentException("본인의 일기만 접근할 수 있습니다.");
-        }
-
-        // 1. 사용자 메시지 저장
-        ChatMessageRequest userMessage = new ChatMessageRequest("user", request.getMessage());
-        chatMessageService.saveMessage(userId, diaryId, userMessage);
+        chatMessageWriter.flushDiary(diaryId);  // 이전 턴이 아직 큐에 있으면 먼저 저장 (write-behind)
 
-        // 2. DB에서 대화 내역 불러오기 (컨텍스트 구성)
-        ChatHistoryResponse history = chatMessageService.getChatHistory(userId, diaryId);
-        String context = buildContextFromHistory(history);
+        // 1~4. 검증 + 대화 맥락 / 상담사 프롬프트 구성 (짧은 읽기 트랜잭션)
+        LocalDateTime userMessageAt = LocalDateTime.now();
+        ChatTurn turn = readOnly(() -> {
+            Diary diary = diaryRepository.findById(diaryId)
+                    .orElseThrow(() -> new IllegalArgumentException("일기를 찾을 수 없습니다."));
 
-        Mood mood = diary.getMood();
+            // 본인의 일기인지 확인
+            if (!diary.getUser().getId().equals(userId)) {
+                throw new IllegalArgumentException("본인의 일기만 접근할 수 있습니다.");
+            }
 
-        // 3. 상담사 프롬프트
-        String systemPrompt = buildCounselorPrompt(mood);
+            return new ChatTurn(diaryId, diary.getMood(), buildContinueMessages(diary, request.getMessage()));
+        });
 
-        // 4. 대화 이어가기
-        String fullPrompt = String.format(
-            "%s\n\n이전 대화 맥락:\n%s\n\n사용자: %s\n\n자연스럽게 대화를 이어가며 공감하고, 필요하다면 적절한 질문을 던져주세요.",
-            systemPrompt, context, request.getMessage()
-        );
+        // 5. OpenAI API 호출 (트랜잭션 밖)
+        String aiResponse = openAIService.chat(turn.messages(), COUNSELOR_OPTIONS).block();
 
-        // 5. OpenAI API 호출
-        String aiResponse = openAIService.chat(fullPrompt).block();
+        // 6. 사용자 메시지 + AI 응답 함께 저장 (INSERT 왕복 1번)
+        chatMessageService.saveTurn(diaryId, request.getMessage(), userMessageAt, aiResponse);
 
-        // 6. AI 응답 저장
-        ChatMessageRequest assistantMessage = new ChatMessageRequest("assistant", aiResponse);
-        chatMessageService.saveMessage(userId, diaryId, assistantMessage);
+        // 7. 오래된 메시지는 백그라운드에서 누적 요약에 반영 (커밋 이후라 방금 저장한 응답도 보임)
+        conversationSummarizer.foldIfNeeded(diaryId);
 
         log.info("대화 계속 및 저장 - userId: {}, diaryId: {}", userId, diaryId);
 
         return ChatResponse.builder()
                 .diaryId(diaryId)
                 .message(aiResponse)
-                .mood(mood.getKey())
+                .mood(turn.mood().getKey())
                 .build();
     }
 
     /**
      * 대화 내역 요약 (GPT 사용) 및 DB 저장
+     * 🔥 조회 → LLM 호출(트랜잭션 밖) → 저장
      */
-    @Transactional
     public SummaryChatResponse summarizeChat(Long userId, Long diaryId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        // 1. 요약 요청 메시지 구성 (짧은 읽기 트랜잭션)
+        List<Message> messages = readOnly(() -> {
+            Diary diary = diaryRepository.findById(diaryId)
+                    .orElseThrow(() -> new IllegalArgumentException("일기를 찾을 수 없습니다."));
+
+            // 본인의 일기인지 확인
+            if (!diary.getUser().getId().equals(userId)) {
+                throw new IllegalArgumentException("본인의 일기만 접근할 수 있습니다.");
+            }
+            return buildSummaryMessages(diary);
+        });
+
+        if (messages.isEmpty()) {
+            throw new IllegalArgumentException("요약할 대화 내역이 없습니다.");
+        }
+
+        log.info("대화 요약 요청 - userId: {}, diaryId: {}", userId, diaryId);
+
+        // 2. GPT에게 요약 요청 (트랜잭션 밖, system: 요약 지침 / user: 대화 내역)
+        String summary = openAIService.chat(messages, ChatOptions.defaults()).block();
 
-        Diary diary = diaryRepository.findById(diaryId)
-                .orElseThrow(() -> new IllegalArgumentException("일기를 찾을 수 없습니다."));
+        // 3. DB에 저장 (짧은 쓰기 트랜잭션)
+        transactionTemplate.executeWithoutResult(status -> diaryRepository.findById(diaryId)
+                .orElseThrow(() -> new IllegalArgumentException("일기를 찾을 수 없습니다."))
+                .updateSummary(summary));
+
+        log.info("대화 요약 저장 완료 - userId: {}, diaryId: {}", userId, diaryId);
+
+        return SummaryChatResponse.builder()
+                .summary(summary)
+                .build();
+    }
 
-        // 본인의 일기인지 확인
-        if (!diary.getUser().getId().equals(userId)) {
-            throw new IllegalArgumentException("본인의 일기만 접근할 수 있습니다.");
+    /**
+     * 🔥 Batch API용 요약 요청 (요약할 대화가 없으면 empty)
+     * custom_id = diaryId → 결과는 applyBatchSummary()로 반영
+     */
+    public Optional<BatchRequest> buildSummaryBatchRequest(Diary diary) {
+        List<Message> messages = buildSummaryMessages(diary);
+        if (messages.isEmpty()) {
+            return Optional.empty();
         }
+        return Optional.of(new BatchRequest(String.valueOf(diary.getId()), messages, ChatOptions.defaults()));
+    }
 
-        // 대화 내역 조회
-        ChatHistoryResponse history = chatMessageService.getChatHistory(userId, diaryId);
+    /**
+     * 🔥 Batch API 요약 결과 저장 (그 사이 사용자가 직접 요약했다면 덮어쓰지 않음)
+     */
+    @Transactional
+    public void applyBatchSummary(Long diaryId, String summary) {
+        diaryRepository.findById(diaryId).ifPresentOrElse(diary -> {
+            if (diary.getSummaryText() != null) {
+                log.info("이미 요약된 일기 - diaryId: {}", diaryId);
+                return;
+            }
+            diary.updateSummary(summary);
+            log.info("배치 요약 저장 완료 - diaryId: {}", diaryId);
+        }, () -> log.warn("배치 요약 대상 일기 없음 - diaryId: {}", diaryId));
+    }
 
-        if (history.getMessages().isEmpty()) {
-            throw new IllegalArgumentException("요약할 대화 내역이 없습니다.");
+    /**
+     * 요약 요청 메시지 (system: 요약 지침 / user: 누적 요약 + 요약 이후 대화)
+     * 전체 대화 내역을 다시 보내지 않음 - 요약할 내용이 없으면 빈 목록
+     */
+    private List<Message> buildSummaryMessages(Diary diary) {
+        List<ChatMessage> tail = chatMessageService.getMessagesAfter(diary.getId(), diary.getSummaryWatermark());
+
+        if (diary.getRunningSummary() == null && tail.isEmpty()) {
+            return List.of();
         }
 
         // 대화 내역을 텍스트로 변환
         StringBuilder conversationText = new StringBuilder();
-        for (ChatMessageResponse msg : history.getMessages()) {
+        if (diary.getRunningSummary() != null) {
+            conversationText.append("(이전 대화 요약) ")
+                    .append(diary.getRunningSummary())
+                    .append("\n\n");
+        }
+        for (ChatMessage msg : tail) {
             String speaker = msg.getRole().equals("user") ? "사용자" : "상담사";
             conversationText.append(speaker)
                     .append(": ")
@@ -180,32 +396,7 @@ public class DiaryChatService {
                     .append("\n\n");
         }
 
-        // GPT에게 요약 요청
-        String summaryPrompt = String.format(
-                "다음은 사용자와 심리 상담사의 대화 내역입니다.\n\n" +
-                        "%s\n" +
-                        "위 대화를 3-5문장으로 요약해주세요. 다음 내용을 포함해야 합니다:\n" +
-                        "1. 사용자가 나눈 주요 이야기\n" +
-                        "2. 사용자의 감정 상태\n" +
-                        "3. 대화를 통해 얻은 인사이트나 깨달음\n\n" +
-                        "따뜻하고 공감하는 톤으로 작성하되, 객관적으로 요약해주세요.",
-                conversationText.toString()
-        );
-
-        log.info("대화 요약 요청 - userId: {}, diaryId: {}", userId, diaryId);
-
-        // OpenAI API 호출
-        String summary = openAIService.chat(summaryPrompt).block();
-
-        // DB에 저장
-        diary.updateSummary(summary);
-        diaryRepository.save(diary);
-        
-        log.info("대화 요약 저장 완료 - userId: {}, diaryId: {}", userId, diaryId);
-
-        return SummaryChatResponse.builder()
-                .summary(summary)
-                .build();
+        return List.of(Message.system(SUMMARY_GUIDE), Message.user(conversationText.toString()));
     }
 
     /**
@@ -223,27 +414,6 @@ public class DiaryChatService {
         chatMessageService.deleteChatHistory(userId, diaryId);
     }
 
-    /**
-     * 대화 내역에서 컨텍스트 문자열 생성
-     */
-    private String buildContextFromHistory(ChatHistoryResponse history) {
-        if (history.getMessages().isEmpty()) {
-            return "대화 시작";
-        }
-
-        StringBuilder context = new StringBuilder();
-        // 최근 10개 메시지만 사용 (너무 길면 토큰 초과)
-        int startIndex = Math.max(0, history.getMessages().size() - 10);
-        
-        for (int i = startIndex; i < history.getMessages().size(); i++) {
-            ChatMessageResponse msg = history.getMessages().get(i);
-            String speaker = msg.getRole().equals("user") ? "사용자" : "AI";
-            context.append(speaker).append(": ").append(msg.getContent()).append("\n");
-        }
-
-        return context.toString();
-    }
-
     /**
      * 감정별 상담사 시스템 프롬프트
      */
@@ -281,4 +451,19 @@ public class DiaryChatService {
                 "사용자의 이야기를 경청하고, 적절한 질문을 통해 더 깊은 대화를 이끌어내세요. " +
                 "응답은 2-3문장으로 간결하게, 자연스러운 대화체로 작성하세요.";
     }
+
+    /**
+     * 읽기 전용 짧은 트랜잭션
+     */
+    private <T> T readOnly(Supplier<T> work) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return readOnly.execute(status -> work.get());
+    }
+
+    /**
+     * LLM 호출에 필요한 조회 결과 (트랜잭션 밖으로 엔티티를 넘기지 않음)
+     */
+    private record ChatTurn(Long diaryId, Mood mood, List<Message> messages) {
+    }
 }
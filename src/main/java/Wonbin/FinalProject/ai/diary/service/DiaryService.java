@@ -2,17 +2,22 @@ package Wonbin.FinalProject.ai.diary.service;
 
 import Wonbin.FinalProject.ai.diary.domain.Diary;
 import Wonbin.FinalProject.ai.diary.domain.Mood;
+import Wonbin.FinalProject.ai.diary.dto.CursorPageResponse;
+import Wonbin.FinalProject.ai.diary.dto.DiaryListItemResponse;
 import Wonbin.FinalProject.ai.diary.dto.DiaryRequest;
 import Wonbin.FinalProject.ai.diary.dto.DiaryResponse;
+import Wonbin.FinalProject.ai.diary.repository.DiaryListView;
 import Wonbin.FinalProject.ai.diary.repository.DiaryRepository;
 import Wonbin.FinalProject.auth.domain.User;
 import Wonbin.FinalProject.auth.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -24,14 +29,17 @@ public class DiaryService {
 
     private final DiaryRepository diaryRepository;
     private final UserRepository userRepository;
+    private final ChatMessageWriter chatMessageWriter;
+
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
 
     /**
      * 일기 작성 (같은 날짜에 이미 일기가 있으면 에러)
      */
     @Transactional
     public DiaryResponse saveDiary(Long userId, DiaryRequest request) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        User user = userRepository.getReferenceById(userId);  // 인증 단계에서 확인된 사용자 (SELECT 없이 참조)
 
         LocalDate diaryDate = LocalDate.parse(request.getDate());
         Mood mood = Mood.fromKey(request.getMood());
@@ -61,8 +69,7 @@ public class DiaryService {
      * 특정 날짜의 일기 조회
      */
     public DiaryResponse getDiary(Long userId, LocalDate date) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        User user = userRepository.getReferenceById(userId);  // 인증 단계에서 확인된 사용자 (SELECT 없이 참조)
 
         Diary diary = diaryRepository.findByUserAndDiaryDate(user, date)
                 .orElseThrow(() -> new IllegalArgumentException("해당 날짜의 일기를 찾을 수 없습니다."));
@@ -74,8 +81,7 @@ public class DiaryService {
      * 특정 사용자의 모든 일기 조회 (최신순)
      */
     public List<DiaryResponse> getAllDiaries(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        User user = userRepository.getReferenceById(userId);  // 인증 단계에서 확인된 사용자 (SELECT 없이 참조)
 
         List<Diary> diaries = diaryRepository.findByUserOrderByDiaryDateDesc(user);
         
@@ -84,12 +90,43 @@ public class DiaryService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 🔥 일기 목록 조회 (최신순, 커서 기반 페이지)
+     * 커서 = 이전 페이지 마지막 일기의 "diaryDate_id" → 몇 년치 일기가 있어도 요청당 size개만 조회
+     */
+    public CursorPageResponse<DiaryListItemResponse> getDiaryPage(Long userId, String cursor, Integer size) {
+        int pageSize = clampPageSize(size);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);  // 1개 더 조회해서 다음 페이지 여부 판단
+
+        List<DiaryListView> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = diaryRepository.findListFirstPage(userId, limit);
+        } else {
+            DiaryCursor parsed = DiaryCursor.parse(cursor);
+            rows = diaryRepository.findListPageBefore(userId, parsed.diaryDate(), parsed.id(), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<DiaryListView> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            DiaryListView last = page.get(page.size() - 1);
+            nextCursor = last.getDiaryDate() + "_" + last.getId();
+        }
+
+        return CursorPageResponse.<DiaryListItemResponse>builder()
+                .items(page.stream().map(DiaryListItemResponse::from).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
     /**
      * 특정 기간의 일기 조회
      */
     public List<DiaryResponse> getDiariesByDateRange(Long userId, LocalDate startDate, LocalDate endDate) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        User user = userRepository.getReferenceById(userId);  // 인증 단계에서 확인된 사용자 (SELECT 없이 참조)
 
         List<Diary> diaries = diaryRepository.findByUserAndDiaryDateBetweenOrderByDiaryDateDesc(
                 user, startDate, endDate
@@ -105,9 +142,6 @@ public class DiaryService {
      */
     @Transactional
     public void deleteDiary(Long userId, Long diaryId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
         Diary diary = diaryRepository.findById(diaryId)
                 .orElseThrow(() -> new IllegalArgumentException("일기를 찾을 수 없습니다."));
 
@@ -116,6 +150,7 @@ public class DiaryService {
             throw new IllegalArgumentException("본인의 일기만 삭제할 수 있습니다.");
         }
 
+        chatMessageWriter.discard(diaryId);  // 아직 저장 안 된 대화 메시지 제거 (write-behind)
         diaryRepository.delete(diary);
         log.info("일기 삭제 완료 - userId: {}, diaryId: {}", userId, diaryId);
     }
@@ -142,4 +177,25 @@ public class DiaryService {
 //
 //        return DiaryResponse.from(diary);
 //    }
+
+    static int clampPageSize(Integer size) {
+        if (size == null) return DEFAULT_PAGE_SIZE;
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * 일기 목록 커서 ("2025-01-15_123")
+     */
+    private record DiaryCursor(LocalDate diaryDate, Long id) {
+
+        static DiaryCursor parse(String cursor) {
+            int separator = cursor.indexOf('_');
+            try {
+                return new DiaryCursor(LocalDate.parse(cursor.substring(0, separator)),
+                        Long.parseLong(cursor.substring(separator + 1)));
+            } catch (DateTimeParseException | NumberFormatException | IndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+            }
+        }
+    }
 }
@@ -0,0 +1,61 @@
+package Wonbin.FinalProject.ai.diary.service;
+
+import Wonbin.FinalProject.ai.common.dto.BatchRequest;
+import Wonbin.FinalProject.ai.common.service.OpenAIBatchService;
+import Wonbin.FinalProject.ai.diary.domain.Diary;
+import Wonbin.FinalProject.ai.diary.repository.DiaryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 🔥 전날 일기 중 요약이 없는 일기를 모아 Batch API로 요약 (결과는 DiarySummaryBatchResultHandler가 저장)
+ */
+@Slf4j
+@Component
+public class DiarySummaryBatchJob {
+
+    private final DiaryRepository diaryRepository;
+    private final DiaryChatService diaryChatService;
+    private final OpenAIBatchService openAIBatchService;
+    private final boolean enabled;
+
+    public DiarySummaryBatchJob(DiaryRepository diaryRepository,
+                                DiaryChatService diaryChatService,
+                                OpenAIBatchService openAIBatchService,
+                                @Value("${diary.summary-batch.enabled:false}") boolean enabled) {
+        this.diaryRepository = diaryRepository;
+        this.diaryChatService = diaryChatService;
+        this.openAIBatchService = openAIBatchService;
+        this.enabled = enabled;
+    }
+
+    @Scheduled(cron = "${diary.summary-batch.cron:0 30 3 * * *}")
+    public void summarizeYesterday() {
+        if (!enabled) return;
+        submit(LocalDate.now().minusDays(1));
+    }
+
+    /**
+     * 해당 날짜의 요약 없는 일기 제출 → batch ID (대상이 없으면 null)
+     */
+    public String submit(LocalDate date) {
+        List<BatchRequest> requests = new ArrayList<>();
+        for (Diary diary : diaryRepository.findByDiaryDateAndSummaryTextIsNull(date)) {
+            Optional<BatchRequest> request = diaryChatService.buildSummaryBatchRequest(diary);
+            request.ifPresent(requests::add);
+        }
+
+        if (requests.isEmpty()) {
+            log.info("요약할 일기 없음 - date: {}", date);
+            return null;
+        }
+        return openAIBatchService.submit(DiarySummaryBatchResultHandler.KIND, requests);
+    }
+}
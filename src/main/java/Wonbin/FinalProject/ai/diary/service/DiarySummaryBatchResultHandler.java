@@ -0,0 +1,35 @@
+package Wonbin.FinalProject.ai.diary.service;
+
+import Wonbin.FinalProject.ai.common.service.BatchResultHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 🔥 일기 요약 Batch 결과 반영 (custom_id = diaryId)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DiarySummaryBatchResultHandler implements BatchResultHandler {
+
+    public static final String KIND = "diary-summary";
+
+    private final DiaryChatService diaryChatService;
+
+    @Override
+    public String kind() {
+        return KIND;
+    }
+
+    @Override
+    public void onSuccess(String customId, String content) {
+        diaryChatService.applyBatchSummary(Long.valueOf(customId), content);
+    }
+
+    @Override
+    public void onFailure(String customId, String error) {
+        // 요약이 없는 일기는 사용자가 직접 요약 요청 가능
+        log.warn("⚠️ Batch summary request failed - diaryId: {}, error: {}", customId, error);
+    }
+}
@@ -1,12 +1,13 @@
 package Wonbin.FinalProject.ai.quest.controller;
 
-import Wonbin.FinalProject.auth.domain.User;
 import Wonbin.FinalProject.ai.quest.dto.QuestResponse;
 import Wonbin.FinalProject.ai.quest.service.QuestService;
+import Wonbin.FinalProject.auth.dto.AuthenticatedUser;
+import Wonbin.FinalProject.auth.resolver.LoginUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("/api/quests")
@@ -17,19 +18,14 @@ public class QuestController {
 
     /**
      * 오늘의 퀘스트 조회
+     * 생성이 필요한 경우에도 요청 스레드를 점유하지 않음 (Mono 반환 → 비동기 응답)
      */
     @GetMapping("/today")
-    public ResponseEntity<QuestResponse> getTodayQuest(
-            @AuthenticationPrincipal String email) {  // User -> String으로 변경
+    public Mono<ResponseEntity<QuestResponse>> getTodayQuest(
+            @LoginUser AuthenticatedUser user) {  // 미인증 시 401 (InvalidUserException)
 
-        // null 체크 추가
-        if (email == null) {
-            return ResponseEntity.status(401)
-                    .body(null);
-        }
-
-        QuestResponse quest = questService.getTodayQuestByEmail(email);  // 이메일로 조회
-        return ResponseEntity.ok(quest);
+        return questService.getTodayQuest(user.getId())
+                .map(ResponseEntity::ok);
     }
 
     /**
@@ -37,9 +33,9 @@ public class QuestController {
      */
     @PostMapping("/{questId}/complete")
     public ResponseEntity<String> completeQuest(
-            @AuthenticationPrincipal String email,  // User -> String으로 변경
+            @LoginUser AuthenticatedUser user,
             @PathVariable Long questId) {
-        questService.completeQuestByEmail(email, questId);  // 이메일로 처리
+        questService.completeQuest(user.getId(), questId);
         return ResponseEntity.ok("Quest completed successfully!");
     }
 }
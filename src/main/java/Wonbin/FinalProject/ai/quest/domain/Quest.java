@@ -1,5 +1,7 @@
 package Wonbin.FinalProject.ai.quest.domain;
 
+import Wonbin.FinalProject.ai.common.vector.EmbeddingCodec;
+import Wonbin.FinalProject.ai.common.vector.VectorMath;
 import Wonbin.FinalProject.auth.domain.User;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.*;
@@ -17,6 +19,9 @@ import java.time.LocalDateTime;
 @Setter
 public class Quest {
 
+    // 레거시 JSON embedding 파싱용 (스레드 안전, 재사용)
+    private static final ObjectMapper LEGACY_MAPPER = new ObjectMapper();
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -39,11 +44,21 @@ public class Quest {
     private LocalDate questDate;
 
     @Column(name = "title_embedding", columnDefinition = "TEXT")
-    private String titleEmbedding;  // 🔥 Embedding 저장 (JSON 형식)
+    private String titleEmbedding;  // (레거시) JSON 형식 Embedding - 바이너리로 마이그레이션 후 null
+
+    @Column(name = "title_embedding_vec", columnDefinition = "BLOB")
+    private byte[] titleEmbeddingVector;  // 🔥 Embedding 저장 (float32 바이너리)
+
+    @Column(name = "title_embedding_norm")
+    private Float titleEmbeddingNorm;  // Embedding L2 norm (유사도 계산 시 재사용)
 
     @Column(length = 500)
     private String youtubeUrl;  // 유튜브 링크
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "catalog_entry_id")
+    private QuestCatalogEntry catalogEntry;  // 🔥 공통 카탈로그 항목 (기본 퀘스트 / 레거시는 null)
+
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
@@ -53,29 +68,37 @@ public class Quest {
     }
 
     /**
-     * Embedding을 float 배열로 변환
+     * Embedding을 float 배열로 변환 (바이너리 우선, 없으면 레거시 JSON)
      */
     public float[] getTitleEmbeddingArray() {
+        if (titleEmbeddingVector != null) {
+            return EmbeddingCodec.decode(titleEmbeddingVector);
+        }
         if (titleEmbedding == null) return null;
-        
+
         try {
-            ObjectMapper mapper = new ObjectMapper();
-            return mapper.readValue(titleEmbedding, float[].class);
+            return LEGACY_MAPPER.readValue(titleEmbedding, float[].class);
         } catch (Exception e) {
             return null;
         }
     }
 
     /**
-     * float 배열을 JSON 문자열로 저장
+     * float 배열을 바이너리로 저장 (norm 함께 저장, 레거시 JSON 제거)
      */
     public void setTitleEmbeddingArray(float[] embedding) {
-        try {
-            ObjectMapper mapper = new ObjectMapper();
-            this.titleEmbedding = mapper.writeValueAsString(embedding);
-        } catch (Exception e) {
-            this.titleEmbedding = null;
-        }
+        this.titleEmbeddingVector = EmbeddingCodec.encode(embedding);
+        this.titleEmbeddingNorm = embedding != null ? VectorMath.norm(embedding) : null;
+        this.titleEmbedding = null;
+    }
+
+    /**
+     * 레거시 JSON embedding을 바이너리로 변환
+     * 파싱할 수 없는 값은 버림 (다음 중복 체크 때 다시 생성됨)
+     */
+    public void migrateLegacyEmbedding() {
+        if (titleEmbedding == null) return;
+        setTitleEmbeddingArray(getTitleEmbeddingArray());
     }
 
 }
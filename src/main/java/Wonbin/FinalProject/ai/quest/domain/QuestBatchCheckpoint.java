@@ -0,0 +1,83 @@
+package Wonbin.FinalProject.ai.quest.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 🔥 퀘스트 사전 생성 배치 진행 상황 (재시작 시 lastUserId 이후부터 이어서 처리)
+ */
+@Entity
+@Table(name = "quest_batch_checkpoints")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class QuestBatchCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private LocalDate targetDate;  // 퀘스트를 생성할 날짜
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Long lastUserId = 0L;  // 처리 완료된 마지막 사용자 ID (keyset)
+
+    @Builder.Default
+    private int succeeded = 0;
+
+    @Builder.Default
+    private int skipped = 0;  // 이미 퀘스트가 있던 사용자
+
+    @Builder.Default
+    private int failed = 0;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private Status status = Status.RUNNING;
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime completedAt;
+
+    public enum Status {
+        RUNNING,
+        COMPLETED
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.startedAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 한 페이지 처리 결과 반영
+     */
+    public void advance(Long lastUserId, int succeeded, int skipped, int failed) {
+        this.lastUserId = lastUserId;
+        this.succeeded += succeeded;
+        this.skipped += skipped;
+        this.failed += failed;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.status = Status.COMPLETED;
+        this.completedAt = LocalDateTime.now();
+        this.updatedAt = this.completedAt;
+    }
+
+    public int getProcessed() {
+        return succeeded + skipped + failed;
+    }
+}
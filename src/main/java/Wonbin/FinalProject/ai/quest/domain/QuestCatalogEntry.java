@@ -0,0 +1,88 @@
+package Wonbin.FinalProject.ai.quest.domain;
+
+import Wonbin.FinalProject.ai.common.vector.EmbeddingCodec;
+import Wonbin.FinalProject.ai.common.vector.VectorMath;
+import Wonbin.FinalProject.auth.domain.User;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 🔥 사용자 공통 퀘스트 카탈로그
+ * 한 번 생성된 퀘스트(제목/설명/카테고리/Embedding/유튜브 링크)를 다른 사용자에게 재사용
+ * → 새 퀘스트 배정 시 LLM / Embedding / YouTube 호출 없이 인덱스 조회만으로 처리
+ */
+@Entity
+@Table(name = "quest_catalog",
+       uniqueConstraints = @UniqueConstraint(columnNames = "title"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class QuestCatalogEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String title;  // 정규화된 제목 (NFKC + 공백 정리)
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private QuestCategory category;
+
+    @Column(name = "title_embedding_vec", nullable = false, columnDefinition = "BLOB")
+    private byte[] titleEmbeddingVector;  // float32 바이너리
+
+    @Column(name = "title_embedding_norm", nullable = false)
+    private Float titleEmbeddingNorm;
+
+    @Column(length = 500)
+    private String youtubeUrl;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public static QuestCatalogEntry from(Quest quest, String normalizedTitle, float[] embedding) {
+        return QuestCatalogEntry.builder()
+                .title(normalizedTitle)
+                .description(quest.getDescription())
+                .category(quest.getCategory())
+                .titleEmbeddingVector(EmbeddingCodec.encode(embedding))
+                .titleEmbeddingNorm(VectorMath.norm(embedding))
+                .youtubeUrl(quest.getYoutubeUrl())
+                .build();
+    }
+
+    public float[] getTitleEmbeddingArray() {
+        return EmbeddingCodec.decode(titleEmbeddingVector);
+    }
+
+    /**
+     * 카탈로그 항목으로 사용자 퀘스트 생성 (Embedding / 유튜브 링크 그대로 사용)
+     */
+    public Quest toQuest(User user, LocalDate questDate) {
+        return Quest.builder()
+                .user(user)
+                .title(title)
+                .description(description)
+                .category(category)
+                .questDate(questDate)
+                .titleEmbeddingVector(titleEmbeddingVector)
+                .titleEmbeddingNorm(titleEmbeddingNorm)
+                .youtubeUrl(youtubeUrl)
+                .catalogEntry(this)
+                .build();
+    }
+}
@@ -0,0 +1,38 @@
+package Wonbin.FinalProject.ai.quest.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 🔥 퀘스트 생성 선점 기록 (여러 서버에서 같은 사용자/날짜 퀘스트를 동시에 생성하지 않도록)
+ * (user_id, quest_date) 유니크 → INSERT에 성공한 서버만 생성, 나머지는 결과를 기다림
+ * 생성 도중 서버가 죽으면 expiresAt 이후 다른 서버가 다시 선점
+ */
+@Entity
+@Table(name = "quest_generation_claims",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "quest_date"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class QuestGenerationClaim {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "quest_date", nullable = false)
+    private LocalDate questDate;
+
+    @Column(nullable = false, length = 100)
+    private String owner;  // 선점한 서버 인스턴스
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
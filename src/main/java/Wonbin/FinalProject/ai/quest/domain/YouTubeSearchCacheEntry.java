@@ -0,0 +1,50 @@
+package Wonbin.FinalProject.ai.quest.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 🔥 유튜브 검색 결과 캐시 (정규화된 검색어 → 영상 링크)
+ * videoUrl이 null이면 "검색 결과 없음" (negative cache - 짧은 TTL)
+ */
+@Entity
+@Table(name = "youtube_search_cache",
+       uniqueConstraints = @UniqueConstraint(columnNames = "query_key"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class YouTubeSearchCacheEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "query_key", nullable = false)
+    private String queryKey;  // 정규화된 검색어
+
+    @Column(length = 500)
+    private String videoUrl;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt.isBefore(now);
+    }
+
+    public void refresh(String videoUrl, LocalDateTime expiresAt) {
+        this.videoUrl = videoUrl;
+        this.expiresAt = expiresAt;
+    }
+}
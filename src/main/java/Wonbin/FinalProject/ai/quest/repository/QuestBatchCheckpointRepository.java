@@ -0,0 +1,20 @@
+package Wonbin.FinalProject.ai.quest.repository;
+
+import Wonbin.FinalProject.ai.quest.domain.QuestBatchCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface QuestBatchCheckpointRepository extends JpaRepository<QuestBatchCheckpoint, Long> {
+
+    // 🔥 특정 날짜 배치 진행 상황 조회
+    Optional<QuestBatchCheckpoint> findByTargetDate(LocalDate targetDate);
+
+    // 🔥 중단된 배치 조회 (재시작 시 이어서 처리)
+    List<QuestBatchCheckpoint> findByStatusAndTargetDateGreaterThanEqual(
+            QuestBatchCheckpoint.Status status, LocalDate targetDate);
+}
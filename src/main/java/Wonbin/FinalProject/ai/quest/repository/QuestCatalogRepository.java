@@ -0,0 +1,22 @@
+package Wonbin.FinalProject.ai.quest.repository;
+
+import Wonbin.FinalProject.ai.quest.domain.QuestCatalogEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface QuestCatalogRepository extends JpaRepository<QuestCatalogEntry, Long> {
+
+    // 🔥 제목으로 카탈로그 항목 조회 (LLM이 이미 있는 제목을 생성한 경우)
+    Optional<QuestCatalogEntry> findByTitle(String title);
+
+    // 🔥 유튜브 링크가 없는 항목에만 링크 반영
+    @Modifying
+    @Query("update QuestCatalogEntry c set c.youtubeUrl = :youtubeUrl where c.id = :id and c.youtubeUrl is null")
+    int updateYoutubeUrlIfAbsent(@Param("id") Long id, @Param("youtubeUrl") String youtubeUrl);
+}
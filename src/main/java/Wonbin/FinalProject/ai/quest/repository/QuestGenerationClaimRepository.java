@@ -0,0 +1,31 @@
+package Wonbin.FinalProject.ai.quest.repository;
+
+import Wonbin.FinalProject.ai.quest.domain.QuestGenerationClaim;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Repository
+public interface QuestGenerationClaimRepository extends JpaRepository<QuestGenerationClaim, Long> {
+
+    // 🔥 만료된 선점 제거 (생성 도중 죽은 서버)
+    @Modifying
+    @Query("delete from QuestGenerationClaim c " +
+           "where c.userId = :userId and c.questDate = :questDate and c.expiresAt < :now")
+    int deleteExpired(@Param("userId") Long userId,
+                      @Param("questDate") LocalDate questDate,
+                      @Param("now") LocalDateTime now);
+
+    // 🔥 선점 해제 (본인이 선점한 경우만)
+    @Modifying
+    @Query("delete from QuestGenerationClaim c " +
+           "where c.userId = :userId and c.questDate = :questDate and c.owner = :owner")
+    int release(@Param("userId") Long userId,
+                @Param("questDate") LocalDate questDate,
+                @Param("owner") String owner);
+}
@@ -3,6 +3,9 @@ package Wonbin.FinalProject.ai.quest.repository;
 import Wonbin.FinalProject.ai.quest.domain.Quest;
 import Wonbin.FinalProject.auth.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
 import java.util.List;
@@ -19,4 +22,16 @@ public interface QuestRepository extends JpaRepository<Quest, Long> {
     
     // 🔥 특정 사용자의 날짜 범위 퀘스트 조회 (중복 체크용)
     List<Quest> findByUserAndQuestDateBetween(User user, LocalDate startDate, LocalDate endDate);
+
+    // 🔥 레거시 JSON embedding만 있는 퀘스트 조회 (바이너리 마이그레이션용)
+    List<Quest> findTop100ByTitleEmbeddingIsNotNullAndTitleEmbeddingVectorIsNull();
+
+    // 🔥 사용자가 이미 받은 카탈로그 항목 ID (카탈로그 재사용 시 제외)
+    @Query("select distinct q.catalogEntry.id from Quest q where q.user = :user and q.catalogEntry is not null")
+    List<Long> findCatalogEntryIdsByUser(@Param("user") User user);
+
+    // 🔥 유튜브 링크만 갱신 (저장과 병렬로 검색한 결과 반영)
+    @Modifying
+    @Query("update Quest q set q.youtubeUrl = :youtubeUrl where q.id = :questId")
+    int updateYoutubeUrl(@Param("questId") Long questId, @Param("youtubeUrl") String youtubeUrl);
 }
@@ -0,0 +1,15 @@
+package Wonbin.FinalProject.ai.quest.repository;
+
+import Wonbin.FinalProject.ai.quest.domain.QuestStatus;
+
+import java.time.LocalDate;
+
+/**
+ * 캘린더용 프로젝션 (퀘스트 날짜 + 완료 상태만)
+ */
+public interface QuestStatusView {
+
+    LocalDate getQuestDate();
+
+    QuestStatus getStatus();
+}
@@ -4,7 +4,12 @@ import Wonbin.FinalProject.auth.domain.User;
 import Wonbin.FinalProject.ai.quest.domain.Quest;
 import Wonbin.FinalProject.ai.quest.domain.UserQuest;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +17,12 @@ public interface UserQuestRepository extends JpaRepository<UserQuest, Long> {
     
     // 특정 사용자의 특정 퀘스트 조회
     Optional<UserQuest> findByUserAndQuest(User user, Quest quest);
+
+    // 캘린더용 날짜별 퀘스트 완료 상태 ((user_id, quest_date) 인덱스 범위 조회)
+    @Query("select q.questDate as questDate, uq.status as status from UserQuest uq join uq.quest q " +
+           "where q.user.id = :userId and uq.user.id = :userId " +
+           "and q.questDate between :startDate and :endDate")
+    List<QuestStatusView> findStatusesByUserIdAndDateRange(@Param("userId") Long userId,
+                                                           @Param("startDate") LocalDate startDate,
+                                                           @Param("endDate") LocalDate endDate);
 }
@@ -0,0 +1,14 @@
+package Wonbin.FinalProject.ai.quest.repository;
+
+import Wonbin.FinalProject.ai.quest.domain.YouTubeSearchCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface YouTubeSearchCacheRepository extends JpaRepository<YouTubeSearchCacheEntry, Long> {
+
+    // 🔥 정규화된 검색어로 캐시 조회
+    Optional<YouTubeSearchCacheEntry> findByQueryKey(String queryKey);
+}
@@ -0,0 +1,41 @@
+package Wonbin.FinalProject.ai.quest.service;
+
+import Wonbin.FinalProject.ai.common.service.BatchResultHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 🔥 퀘스트 Batch 결과 반영 (custom_id = "{userId}:{date}")
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuestBatchResultHandler implements BatchResultHandler {
+
+    public static final String KIND = "quest";
+
+    private final QuestService questService;
+
+    @Override
+    public String kind() {
+        return KIND;
+    }
+
+    @Override
+    public void onSuccess(String customId, String content) {
+        String[] parts = customId.split(":");
+        Long userId = Long.valueOf(parts[0]);
+        LocalDate date = LocalDate.parse(parts[1]);
+
+        questService.completeBatchQuest(userId, date, content).block();
+    }
+
+    @Override
+    public void onFailure(String customId, String error) {
+        // 사전 생성이 안 된 사용자는 첫 조회 시 실시간으로 생성됨
+        log.warn("⚠️ Batch quest request failed - customId: {}, error: {}", customId, error);
+    }
+}
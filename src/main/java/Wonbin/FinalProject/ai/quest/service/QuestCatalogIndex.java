@@ -0,0 +1,77 @@
+package Wonbin.FinalProject.ai.quest.service;
+
+import Wonbin.FinalProject.ai.quest.domain.QuestCatalogEntry;
+import Wonbin.FinalProject.ai.quest.repository.QuestCatalogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 🔥 퀘스트 카탈로그 인메모리 인덱스 (ID + Embedding)
+ * 최초 사용 시 한 번 로드, 새 항목은 add()로 반영 → 배정 시 DB 조회 없이 후보 탐색
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuestCatalogIndex {
+
+    private final QuestCatalogRepository catalogRepository;
+
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private volatile List<Entry> entries;  // 불변 스냅샷 (교체 방식으로 갱신)
+
+    /**
+     * 전체 후보 (불변 목록)
+     */
+    public List<Entry> entries() {
+        List<Entry> snapshot = entries;
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        loadLock.lock();
+        try {
+            if (entries == null) {
+                List<Entry> loaded = new ArrayList<>();
+                for (QuestCatalogEntry entry : catalogRepository.findAll()) {
+                    loaded.add(toEntry(entry));
+                }
+                entries = List.copyOf(loaded);
+                log.info("📚 Quest catalog index loaded: {} entries", loaded.size());
+            }
+            return entries;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * 새 카탈로그 항목 반영 (아직 로드 전이면 다음 조회 때 DB에서 함께 로드)
+     */
+    public void add(QuestCatalogEntry entry) {
+        loadLock.lock();
+        try {
+            if (entries == null) return;
+            for (Entry e : entries) {
+                if (e.id().equals(entry.getId())) return;
+            }
+            List<Entry> next = new ArrayList<>(entries.size() + 1);
+            next.addAll(entries);
+            next.add(toEntry(entry));
+            entries = List.copyOf(next);
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private Entry toEntry(QuestCatalogEntry entry) {
+        return new Entry(entry.getId(), entry.getTitleEmbeddingArray());
+    }
+
+    public record Entry(Long id, float[] vector) {
+    }
+}
@@ -0,0 +1,51 @@
+package Wonbin.FinalProject.ai.quest.service;
+
+import Wonbin.FinalProject.ai.quest.domain.Quest;
+import Wonbin.FinalProject.ai.quest.repository.QuestRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 🔥 레거시 JSON embedding -> 바이너리 embedding 마이그레이션
+ * 애플리케이션 기동 후 백그라운드에서 100건씩 변환 (짧은 트랜잭션 단위)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuestEmbeddingMigration {
+
+    private final QuestRepository questRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${quest.embedding.migration.enabled:true}")
+    private boolean enabled;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyEmbeddings() {
+        if (!enabled) return;
+
+        int total = 0;
+        Integer migrated;
+        do {
+            migrated = transactionTemplate.execute(status -> {
+                List<Quest> batch = questRepository.findTop100ByTitleEmbeddingIsNotNullAndTitleEmbeddingVectorIsNull();
+                batch.forEach(Quest::migrateLegacyEmbedding);
+                return batch.size();
+            });
+            total += migrated != null ? migrated : 0;
+        } while (migrated != null && migrated > 0);
+
+        if (total > 0) {
+            log.info("✅ Legacy quest embeddings migrated to binary: {}", total);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package Wonbin.FinalProject.ai.quest.service;
+
+import Wonbin.FinalProject.ai.quest.domain.QuestGenerationClaim;
+import Wonbin.FinalProject.ai.quest.repository.QuestGenerationClaimRepository;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 🔥 DB 기반 퀘스트 생성 선점 (서버가 여러 대일 때 - quest.single-flight.db-lock=true)
+ * 같은 서버 안의 동시 요청은 QuestService에서 먼저 하나로 합쳐지므로, 서버당 최대 1건만 선점 시도
+ */
+@Slf4j
+@Component
+public class QuestGenerationLock {
+
+    private final QuestGenerationClaimRepository claimRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Getter
+    private final boolean enabled;
+    @Getter
+    private final Duration ttl;
+    private final String owner = UUID.randomUUID().toString();
+
+    public QuestGenerationLock(QuestGenerationClaimRepository claimRepository,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${quest.single-flight.db-lock:false}") boolean enabled,
+                               @Value("${quest.single-flight.claim-ttl-seconds:120}") long ttlSeconds) {
+        this.claimRepository = claimRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    /**
+     * 선점 시도 (다른 서버가 생성 중이면 false)
+     */
+    public boolean tryClaim(Long userId, LocalDate date) {
+        LocalDateTime now = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> claimRepository.deleteExpired(userId, date, now));
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> claimRepository.save(QuestGenerationClaim.builder()
+                    .userId(userId)
+                    .questDate(date)
+                    .owner(owner)
+                    .expiresAt(now.plus(ttl))
+                    .build()));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Quest generation claimed by another instance - userId: {}, date: {}", userId, date);
+            return false;
+        }
+    }
+
+    public void release(Long userId, LocalDate date) {
+        transactionTemplate.executeWithoutResult(status -> claimRepository.release(userId, date, owner));
+    }
+}
@@ -0,0 +1,281 @@
+package Wonbin.FinalProject.ai.quest.service;
+
+import Wonbin.FinalProject.ai.common.dto.BatchRequest;
+import Wonbin.FinalProject.ai.common.service.OpenAIBatchService;
+import Wonbin.FinalProject.ai.quest.domain.QuestBatchCheckpoint;
+import Wonbin.FinalProject.ai.quest.repository.QuestBatchCheckpointRepository;
+import Wonbin.FinalProject.auth.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 🔥 다음 날 퀘스트 사전 생성 배치 (매일 새벽)
+ * 최근 N일 내 활동한 사용자의 Quest / UserQuest를 미리 만들어 아침 첫 조회 지연 제거
+ *
+ * - 사용자 ID keyset 페이징, 페이지마다 체크포인트 저장 → 재시작 시 이어서 처리
+ * - 페이지 실패 시 같은 실행 안에서 백오프 후 체크포인트부터 재시도 (page-retries회 초과 시 중단)
+ * - 동시 생성 수 제한 + 분당 생성 시작 수 제한, OpenAI 429는 지수 백오프 후 재시도
+ * - 진행 메트릭: quest.pregeneration.backlog / in.flight / users{result}
+ * - mode=batch: 페이지마다 OpenAI Batch API로 제출 (결과는 QuestBatchResultHandler가 반영, 제출 건은 created로 집계)
+ */
+@Slf4j
+@Component
+public class QuestPregenerationJob {
+
+    private final QuestService questService;
+    private final UserRepository userRepository;
+    private final QuestBatchCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final OpenAIBatchService openAIBatchService;
+
+    private final boolean enabled;
+    private final boolean batchMode;
+    private final int activeDays;
+    private final int pageSize;
+    private final int concurrency;
+    private final Duration startInterval;
+    private final int pageRetries;
+    private final Duration pageRetryBackoff;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Counter succeededCounter;
+    private final Counter skippedCounter;
+    private final Counter failedCounter;
+
+    public QuestPregenerationJob(QuestService questService,
+                                 UserRepository userRepository,
+                                 QuestBatchCheckpointRepository checkpointRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 OpenAIBatchService openAIBatchService,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${quest.pregeneration.enabled:true}") boolean enabled,
+                                 @Value("${quest.pregeneration.mode:realtime}") String mode,
+                                 @Value("${quest.pregeneration.active-days:7}") int activeDays,
+                                 @Value("${quest.pregeneration.page-size:100}") int pageSize,
+                                 @Value("${quest.pregeneration.concurrency:4}") int concurrency,
+                                 @Value("${quest.pregeneration.users-per-minute:60}") int usersPerMinute,
+                                 @Value("${quest.pregeneration.page-retries:3}") int pageRetries,
+                                 @Value("${quest.pregeneration.page-retry-backoff-ms:30000}") long pageRetryBackoffMs) {
+        this.questService = questService;
+        this.userRepository = userRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.openAIBatchService = openAIBatchService;
+        this.enabled = enabled;
+        this.batchMode = "batch".equalsIgnoreCase(mode);
+        this.activeDays = activeDays;
+        this.pageSize = pageSize;
+        this.concurrency = concurrency;
+        this.startInterval = Duration.ofMillis(60_000L / Math.max(1, usersPerMinute));
+        this.pageRetries = pageRetries;
+        this.pageRetryBackoff = Duration.ofMillis(pageRetryBackoffMs);
+
+        Gauge.builder("quest.pregeneration.backlog", backlog, AtomicLong::get)
+                .description("Active users still waiting for tomorrow's quest")
+                .register(meterRegistry);
+        Gauge.builder("quest.pregeneration.in.flight", inFlight, AtomicInteger::get)
+                .register(meterRegistry);
+        this.succeededCounter = Counter.builder("quest.pregeneration.users").tag("result", "created").register(meterRegistry);
+        this.skippedCounter = Counter.builder("quest.pregeneration.users").tag("result", "skipped").register(meterRegistry);
+        this.failedCounter = Counter.builder("quest.pregeneration.users").tag("result", "failed").register(meterRegistry);
+    }
+
+    /**
+     * 매일 새벽 다음 날 퀘스트 생성
+     */
+    @Async
+    @Scheduled(cron = "${quest.pregeneration.cron:0 0 2 * * *}")
+    public void pregenerateTomorrow() {
+        if (!enabled) return;
+        run(LocalDate.now().plusDays(1));
+    }
+
+    /**
+     * 기동 시 중단된 배치 이어서 처리
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterrupted() {
+        if (!enabled) return;
+
+        List<QuestBatchCheckpoint> interrupted = checkpointRepository.findByStatusAndTargetDateGreaterThanEqual(
+                QuestBatchCheckpoint.Status.RUNNING, LocalDate.now());
+        for (QuestBatchCheckpoint checkpoint : interrupted) {
+            log.info("🔁 Resuming quest pre-generation - date: {}, after userId: {}",
+                    checkpoint.getTargetDate(), checkpoint.getLastUserId());
+            run(checkpoint.getTargetDate());
+        }
+    }
+
+    /**
+     * targetDate 퀘스트 생성 (같은 날짜는 체크포인트 이후부터)
+     */
+    public void run(LocalDate targetDate) {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("⚠️ Quest pre-generation already running, skipping - date: {}", targetDate);
+            return;
+        }
+
+        try {
+            QuestBatchCheckpoint checkpoint = transactionTemplate.execute(status ->
+                    checkpointRepository.findByTargetDate(targetDate)
+                            .orElseGet(() -> checkpointRepository.save(QuestBatchCheckpoint.builder()
+                                    .targetDate(targetDate)
+                                    .build())));
+            if (checkpoint.getStatus() == QuestBatchCheckpoint.Status.COMPLETED) {
+                log.info("✅ Quest pre-generation already completed - date: {}", targetDate);
+                return;
+            }
+
+            LocalDateTime since = LocalDateTime.now().minusDays(activeDays);
+            long lastUserId = checkpoint.getLastUserId();
+            backlog.set(userRepository.countActiveUsersAfter(lastUserId, since));
+            log.info("🌙 Quest pre-generation started - date: {}, users: {}", targetDate, backlog.get());
+
+            Long checkpointId = checkpoint.getId();
+            int pageFailures = 0;
+            while (true) {
+                try {
+                    List<Long> userIds = userRepository.findActiveUserIdsAfter(lastUserId, since, PageRequest.of(0, pageSize));
+                    if (userIds.isEmpty()) break;
+
+                    PageResult result = batchMode
+                            ? submitPage(userIds, targetDate)
+                            : processPage(userIds, targetDate);
+                    long pageLastUserId = userIds.get(userIds.size() - 1);
+                    transactionTemplate.executeWithoutResult(status -> checkpointRepository.findById(checkpointId)
+                            .ifPresent(cp -> cp.advance(pageLastUserId,
+                                    result.succeeded().get(), result.skipped().get(), result.failed().get())));
+                    lastUserId = pageLastUserId;
+                    pageFailures = 0;
+
+                } catch (RuntimeException e) {
+                    if (++pageFailures > pageRetries) throw e;
+
+                    Duration backoff = pageRetryBackoff.multipliedBy(1L << (pageFailures - 1));
+                    log.warn("⏳ Quest pre-generation page failed, retrying from checkpoint in {}s ({}/{}) - date: {}, after userId: {}",
+                            backoff.toSeconds(), pageFailures, pageRetries, targetDate, lastUserId, e);
+                    sleep(backoff);
+
+                    // 체크포인트에 저장된 위치부터 다시 (실패한 페이지는 체크포인트가 진행되지 않음)
+                    lastUserId = checkpointRepository.findById(checkpointId).orElseThrow().getLastUserId();
+                    backlog.set(userRepository.countActiveUsersAfter(lastUserId, since));
+                }
+            }
+
+            QuestBatchCheckpoint completed = transactionTemplate.execute(status -> {
+                QuestBatchCheckpoint cp = checkpointRepository.findById(checkpoint.getId()).orElseThrow();
+                cp.complete();
+                return cp;
+            });
+            log.info("✅ Quest pre-generation completed - date: {}, created: {}, skipped: {}, failed: {}",
+                    targetDate, completed.getSucceeded(), completed.getSkipped(), completed.getFailed());
+
+        } catch (Exception e) {
+            log.error("❌ Quest pre-generation stopped - date: {} (resumes from checkpoint on next run)", targetDate, e);
+        } finally {
+            backlog.set(0);
+            running.set(false);
+        }
+    }
+
+    private void sleep(Duration backoff) {
+        try {
+            Thread.sleep(backoff.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("퀘스트 사전 생성 재시도 대기 중 중단되었습니다.", e);
+        }
+    }
+
+    /**
+     * 한 페이지 사용자 처리 (동시 concurrency명, startInterval 간격으로 시작)
+     */
+    private PageResult processPage(List<Long> userIds, LocalDate targetDate) {
+        PageResult result = new PageResult(new AtomicInteger(), new AtomicInteger(), new AtomicInteger());
+
+        Flux.fromIterable(userIds)
+                .delayElements(startInterval)
+                .flatMap(userId -> generate(userId, targetDate, result), concurrency)
+                .blockLast();
+
+        return result;
+    }
+
+    /**
+     * 한 페이지 사용자를 Batch 요청 하나로 제출 (이미 퀘스트가 있는 사용자는 제외)
+     */
+    private PageResult submitPage(List<Long> userIds, LocalDate targetDate) {
+        PageResult result = new PageResult(new AtomicInteger(), new AtomicInteger(), new AtomicInteger());
+
+        List<BatchRequest> requests = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            questService.buildBatchRequest(userId, targetDate).ifPresentOrElse(requests::add, () -> {
+                result.skipped().incrementAndGet();
+                skippedCounter.increment();
+            });
+        }
+
+        openAIBatchService.submit(QuestBatchResultHandler.KIND, requests);
+        result.succeeded().addAndGet(requests.size());
+        succeededCounter.increment(requests.size());
+        backlog.addAndGet(-userIds.size());
+
+        return result;
+    }
+
+    private Mono<Boolean> generate(Long userId, LocalDate targetDate, PageResult result) {
+        return Mono.defer(() -> questService.pregenerateQuest(userId, targetDate))
+                .retryWhen(Retry.backoff(3, Duration.ofSeconds(10))
+                        .filter(e -> e instanceof WebClientResponseException.TooManyRequests)
+                        .doBeforeRetry(signal -> log.warn("⏳ OpenAI rate limited, backing off - userId: {}", userId)))
+                .doOnSubscribe(s -> inFlight.incrementAndGet())
+                .doOnNext(created -> {
+                    if (created) {
+                        result.succeeded().incrementAndGet();
+                        succeededCounter.increment();
+                    } else {
+                        result.skipped().incrementAndGet();
+                        skippedCounter.increment();
+                    }
+                })
+                .onErrorResume(e -> {
+                    log.error("❌ Quest pre-generation failed - userId: {}", userId, e);
+                    result.failed().incrementAndGet();
+                    failedCounter.increment();
+                    return Mono.empty();
+                })
+                .doFinally(signal -> {
+                    inFlight.decrementAndGet();
+                    backlog.decrementAndGet();
+                });
+    }
+
+    private record PageResult(AtomicInteger succeeded, AtomicInteger skipped, AtomicInteger failed) {
+    }
+}
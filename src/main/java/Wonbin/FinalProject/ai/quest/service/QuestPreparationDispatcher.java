@@ -0,0 +1,85 @@
+package Wonbin.FinalProject.ai.quest.service;
+
+import Wonbin.FinalProject.auth.domain.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 🔥 로그인 시 오늘 퀘스트 미리 생성 (백그라운드)
+ *
+ * - questTaskExecutor에서 실행 → 동시에 생성하는 사용자 수 = 최대 스레드 수 (로그인 폭주 시 LLM 동시 호출 제한)
+ * - 같은 사용자/날짜 요청이 이미 대기 중이거나 실행 중이면 다시 넣지 않음
+ * - 대기열이 가득 차면 건너뜀 → 첫 /api/quest/today 조회 때 생성
+ * - 메트릭: quest.preparation.requests{result=submitted|deduplicated|rejected}
+ */
+@Slf4j
+@Component
+public class QuestPreparationDispatcher {
+
+    private final QuestService questService;
+    private final ThreadPoolTaskExecutor executor;
+    private final Duration timeout;
+
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final Counter submittedCounter;
+    private final Counter deduplicatedCounter;
+    private final Counter rejectedCounter;
+
+    public QuestPreparationDispatcher(QuestService questService,
+                                      @Qualifier("questTaskExecutor") ThreadPoolTaskExecutor executor,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${async.quest.timeout-seconds:90}") long timeoutSeconds) {
+        this.questService = questService;
+        this.executor = executor;
+        this.timeout = Duration.ofSeconds(timeoutSeconds);
+
+        this.submittedCounter = Counter.builder("quest.preparation.requests").tag("result", "submitted").register(meterRegistry);
+        this.deduplicatedCounter = Counter.builder("quest.preparation.requests").tag("result", "deduplicated").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("quest.preparation.requests").tag("result", "rejected").register(meterRegistry);
+    }
+
+    /**
+     * 오늘 퀘스트 생성 요청 (기다리지 않음) - 실제로 대기열에 넣었으면 true
+     */
+    public boolean dispatch(User user) {
+        String key = user.getId() + ":" + LocalDate.now();
+        if (!inFlight.add(key)) {
+            deduplicatedCounter.increment();
+            log.debug("Quest preparation already in flight: {}", key);
+            return false;
+        }
+
+        try {
+            executor.execute(() -> prepare(user, key));
+            submittedCounter.increment();
+            return true;
+        } catch (TaskRejectedException e) {
+            inFlight.remove(key);
+            rejectedCounter.increment();
+            log.warn("⚠️ Quest preparation queue full, skipping user {} (generated on first request)", user.getId());
+            return false;
+        }
+    }
+
+    private void prepare(User user, String key) {
+        try {
+            questService.getTodayQuest(user).block(timeout);
+            log.info("✅ Quest prepared for user: {}", user.getId());
+        } catch (Exception e) {
+            log.error("❌ Failed to pre-generate quest asynchronously for user: {}", user.getId(), e);
+        } finally {
+            inFlight.remove(key);
+        }
+    }
+}
@@ -1,232 +1,484 @@
 package Wonbin.FinalProject.ai.quest.service;
 
+import Wonbin.FinalProject.ai.common.dto.BatchRequest;
+import Wonbin.FinalProject.ai.common.dto.ChatOptions;
+import Wonbin.FinalProject.ai.common.dto.Message;
+import Wonbin.FinalProject.ai.common.service.CachedEmbeddingService;
 import Wonbin.FinalProject.ai.common.service.OpenAIService;
 import Wonbin.FinalProject.auth.domain.User;
 import Wonbin.FinalProject.ai.quest.domain.Quest;
+import Wonbin.FinalProject.ai.quest.domain.QuestCatalogEntry;
 import Wonbin.FinalProject.ai.quest.domain.QuestCategory;
 import Wonbin.FinalProject.ai.quest.domain.UserQuest;
 import Wonbin.FinalProject.ai.quest.dto.QuestGenerationRequest;
 import Wonbin.FinalProject.ai.quest.dto.QuestResponse;
+import Wonbin.FinalProject.ai.quest.repository.QuestCatalogRepository;
 import Wonbin.FinalProject.ai.quest.repository.QuestRepository;
 import Wonbin.FinalProject.ai.quest.repository.UserQuestRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class QuestService {
 
+    private static final int MAX_ATTEMPTS = 3;
+    private static final double DUPLICATE_THRESHOLD = 0.85;      // 최근 퀘스트와 유사도 기준
+    private static final int MAX_CATALOG_CANDIDATES = 50;        // 카탈로그에서 유사도 확인할 최대 항목 수
+    private static final Duration CLAIM_POLL_INTERVAL = Duration.ofSeconds(1);
+
     private final QuestRepository questRepository;
     private final UserQuestRepository userQuestRepository;
     private final OpenAIService openAIService;
+    private final CachedEmbeddingService cachedEmbeddingService;
     private final ObjectMapper objectMapper;
     private final Wonbin.FinalProject.auth.repository.UserRepository userRepository;
     private final YouTubeService youtubeService;
+    private final QuestVectorIndex questVectorIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final QuestGenerationLock questGenerationLock;
+    private final QuestCatalogRepository questCatalogRepository;
+    private final QuestCatalogIndex questCatalogIndex;
+
+    // 🔥 생성 중인 퀘스트 (userId:date) - 동시 요청은 같은 결과를 기다림
+    private final ConcurrentHashMap<String, CompletableFuture<QuestResponse>> inFlightGenerations =
+            new ConcurrentHashMap<>();
 
     /**
      * 오늘의 퀘스트 가져오기 (없으면 생성)
+     * DB 조회/저장은 짧은 트랜잭션(boundedElastic), LLM / Embedding / YouTube 호출은 논블로킹
      */
-    @Transactional
-    public QuestResponse getTodayQuest(User user) {
+    public Mono<QuestResponse> getTodayQuest(User user) {
         LocalDate today = LocalDate.now();
 
-        // 1. 🔥 해당 사용자의 오늘 퀘스트가 이미 있는지 확인
-        Quest quest = questRepository.findByUserAndQuestDate(user, today)
-                .orElseGet(() -> generateAndSaveQuest(user, today));
+        // 1. 🔥 해당 사용자의 오늘 퀘스트가 이미 있는지 확인 (있으면 사용자 할당까지 한 트랜잭션)
+        return Mono.fromCallable(() -> transactionTemplate.execute(status -> findTodayQuest(user, today)))
+                .subscribeOn(Schedulers.boundedElastic())
+                // 2. 없으면 생성 (요청 처리 중이므로 OpenAI 429여도 기본 퀘스트로 응답)
+                .switchIfEmpty(Mono.defer(() -> generateOnce(user, today)
+                        .onErrorResume(WebClientResponseException.TooManyRequests.class, e -> {
+                            log.warn("⚠️ OpenAI rate limited, using default quest for user {}", user.getId());
+                            return saveDefaultQuest(user, today);
+                        })));
+    }
 
-        // 2. 사용자에게 할당된 퀘스트 조회 or 생성
-        UserQuest userQuest = userQuestRepository.findByUserAndQuest(user, quest)
-                .orElseGet(() -> createUserQuest(user, quest));
+    /**
+     * userId로 오늘의 퀘스트 가져오기 (인증 단계에서 확인된 사용자 → SELECT 없이 참조)
+     */
+    public Mono<QuestResponse> getTodayQuest(Long userId) {
+        return getTodayQuest(userRepository.getReferenceById(userId));
+    }
 
-        return QuestResponse.from(quest, userQuest);
+    /**
+     * 🔥 특정 날짜 퀘스트 사전 생성 (배치용)
+     * 이미 있으면 false, 새로 생성하면 true
+     * OpenAI 429는 그대로 전파 → 배치 쪽에서 백오프 후 재시도 (기본 퀘스트로 대체하지 않음)
+     */
+    public Mono<Boolean> pregenerateQuest(Long userId, LocalDate date) {
+        User user = userRepository.getReferenceById(userId);
+
+        return Mono.fromCallable(() -> questRepository.existsByUserAndQuestDate(user, date))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(exists -> exists
+                        ? Mono.just(Boolean.FALSE)
+                        : generateOnce(user, date).thenReturn(Boolean.TRUE));
     }
 
     /**
-     * 이메일로 오늘의 퀘스트 가져오기
+     * 🔥 Batch API용 퀘스트 생성 요청 (이미 퀘스트가 있으면 empty)
+     * custom_id = "{userId}:{date}" → 결과는 completeBatchQuest()로 반영
      */
-    @Transactional
-    public QuestResponse getTodayQuestByEmail(String email) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + email));
-        return getTodayQuest(user);
+    public Optional<BatchRequest> buildBatchRequest(Long userId, LocalDate date) {
+        User user = userRepository.getReferenceById(userId);
+        if (questRepository.existsByUserAndQuestDate(user, date)) {
+            return Optional.empty();
+        }
+        return Optional.of(new BatchRequest(
+                userId + ":" + date,
+                List.of(Message.user(buildQuestPrompt(user, date))),
+                ChatOptions.defaults()
+        ));
     }
 
     /**
-     * 🔥 비동기로 퀘스트 미리 생성 (백그라운드)
+     * 🔥 Batch API 결과 반영
+     * 파싱 실패 / 중복이면 실시간 생성으로 다시 시도 (그 사이 퀘스트가 생겼으면 false)
      */
-    @Async
-    @Transactional
-    public CompletableFuture<Void> prepareQuestAsync(User user) {
-        try {
-            LocalDate today = LocalDate.now();
-            
-            // 🔥 해당 사용자의 오늘 퀘스트가 이미 있으면 스킵
-            if (questRepository.existsByUserAndQuestDate(user, today)) {
-                log.info("✅ Quest already exists for user {} today, skipping generation", user.getEmail());
-                return CompletableFuture.completedFuture(null);
-            }
-            
-            // 없으면 생성
-            Quest quest = generateAndSaveQuest(user, today);
-            createUserQuest(user, quest);
-            
-            log.info("✅ Quest pre-generated asynchronously for user: {}", user.getEmail());
-            
-        } catch (Exception e) {
-            log.error("❌ Failed to pre-generate quest asynchronously for user: {}", user.getEmail(), e);
+    public Mono<Boolean> completeBatchQuest(Long userId, LocalDate date, String aiResponse) {
+        User user = userRepository.getReferenceById(userId);
+
+        return Mono.fromCallable(() -> {
+                    questVectorIndex.warmUp(user);
+                    return questRepository.existsByUserAndQuestDate(user, date);
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(exists -> {
+                    if (exists) {
+                        return Mono.just(Boolean.FALSE);
+                    }
+                    return toUniqueQuest(user, date, aiResponse, 0)
+                            .onErrorResume(e -> !(e instanceof WebClientResponseException.TooManyRequests), e -> {
+                                log.error("❌ Failed to apply batch quest for user {}", userId, e);
+                                return Mono.empty();
+                            })
+                            .flatMap(quest -> saveWithVideo(user, date, quest))
+                            .switchIfEmpty(Mono.defer(() -> generateOnce(user, date)))
+                            .thenReturn(Boolean.TRUE);
+                });
+    }
+
+    /**
+     * 오늘 퀘스트 조회 + 사용자 할당 (없으면 null)
+     */
+    private QuestResponse findTodayQuest(User user, LocalDate date) {
+        return questRepository.findByUserAndQuestDate(user, date)
+                .map(quest -> {
+                    UserQuest userQuest = userQuestRepository.findByUserAndQuest(user, quest)
+                            .orElseGet(() -> createUserQuest(user, quest));
+                    return QuestResponse.from(quest, userQuest);
+                })
+                .orElse(null);
+    }
+
+    /**
+     * 🔥 같은 사용자/날짜 퀘스트 생성은 한 번만 (single-flight)
+     * 홈/퀘스트 화면 동시 조회, 로그인 시 미리 생성과 겹쳐도 LLM 호출은 1번 - 나머지는 결과를 기다림
+     * 생성은 기다리는 쪽이 취소해도 끝까지 진행 (결과는 DB에 저장되므로)
+     */
+    private Mono<QuestResponse> generateOnce(User user, LocalDate date) {
+        String key = user.getId() + ":" + date;
+        CompletableFuture<QuestResponse> created = new CompletableFuture<>();
+        CompletableFuture<QuestResponse> existing = inFlightGenerations.putIfAbsent(key, created);
+        if (existing != null) {
+            log.info("⏳ Quest generation already in flight, waiting - {}", key);
+            return Mono.fromFuture(existing, true);
         }
-        
-        return CompletableFuture.completedFuture(null);
+
+        claimAndGenerate(user, date)
+                .doFinally(signal -> inFlightGenerations.remove(key, created))
+                .subscribe(created::complete, created::completeExceptionally,
+                        () -> created.complete(null));
+        return Mono.fromFuture(created, true);
     }
 
     /**
-     * AI로 퀘스트 생성 후 저장 (중복 체크 포함)
+     * DB 선점 (서버 여러 대일 때) → 선점하면 생성, 다른 서버가 생성 중이면 저장될 때까지 조회
+     * 선점 만료 시간까지 저장되지 않으면 직접 생성
      */
-    private Quest generateAndSaveQuest(User user, LocalDate date) {
-        log.info("📝 Generating new quest for user {} on date: {}", user.getEmail(), date);
-
-        // 🔥 먼저 해당 날짜에 퀘스트가 이미 있는지 확인
-        Optional<Quest> existingQuest = questRepository.findByUserAndQuestDate(user, date);
-        if (existingQuest.isPresent()) {
-            log.warn("⚠️ Quest already exists for user {} on date {}, returning existing quest", 
-                     user.getEmail(), date);
-            return existingQuest.get();
+    private Mono<QuestResponse> claimAndGenerate(User user, LocalDate date) {
+        if (!questGenerationLock.isEnabled()) {
+            return generateAndSaveQuest(user, date);
         }
 
-        int maxAttempts = 3;
-        
-        for (int attempt = 0; attempt < maxAttempts; attempt++) {
-            try {
-                // OpenAI로 퀘스트 생성
-                String prompt = buildQuestPrompt(user, date);
-                String aiResponse = openAIService.chat(prompt).block();
+        return Mono.fromCallable(() -> questGenerationLock.tryClaim(user.getId(), date))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(claimed -> {
+                    if (claimed) {
+                        return generateAndSaveQuest(user, date)
+                                .doFinally(signal -> Schedulers.boundedElastic().schedule(
+                                        () -> questGenerationLock.release(user.getId(), date)));
+                    }
+
+                    long maxPolls = questGenerationLock.getTtl().dividedBy(CLAIM_POLL_INTERVAL);
+                    return Flux.interval(CLAIM_POLL_INTERVAL)
+                            .take(maxPolls)
+                            .concatMap(i -> Mono.fromCallable(() -> transactionTemplate.execute(
+                                            status -> findTodayQuest(user, date)))
+                                    .subscribeOn(Schedulers.boundedElastic()))
+                            .next()
+                            .switchIfEmpty(Mono.defer(() -> generateAndSaveQuest(user, date)));
+                });
+    }
 
-                // JSON 파싱
-                QuestGenerationRequest questData = parseQuestResponse(aiResponse);
+    /**
+     * 퀘스트 생성 후 저장 - 공통 카탈로그에서 먼저 고르고, 쓸 수 있는 항목이 없을 때만 LLM 호출
+     */
+    private Mono<QuestResponse> generateAndSaveQuest(User user, LocalDate date) {
+        return Mono.fromCallable(() -> pickFromCatalog(user, date))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(entry -> {
+                    log.info("📚 Quest assigned from catalog for user {}: '{}'", user.getId(), entry.getTitle());
+                    Quest quest = entry.toQuest(user, date);
+                    return quest.getYoutubeUrl() != null
+                            ? save(user, date, quest).map(SavedQuest::toResponse)
+                            : saveWithVideo(user, date, quest);
+                })
+                .switchIfEmpty(Mono.defer(() -> generateWithLlm(user, date)));
+    }
 
-                // Quest 엔티티 생성
-                Quest quest = Quest.builder()
-                        .user(user)
-                        .title(questData.getTitle())
-                        .description(questData.getDescription())
-                        .category(questData.getCategory())
-                        .questDate(date)
-                        .build();
-
-                // 🔥 Embedding 생성 및 저장
-                float[] embedding = openAIService.createEmbedding(quest.getTitle());
-                quest.setTitleEmbeddingArray(embedding);
-
-                // 유튜브 링크 불러오기
-                String youtubeUrl = youtubeService.searchVideo(quest.getTitle());
-                if (youtubeUrl != null) {
-                    quest.setYoutubeUrl(youtubeUrl);
-                    log.info("✅ YouTube link added: {}", youtubeUrl);
-                }
-
-                // 🔥 중복 체크
-                if (!isDuplicateQuest(user, quest)) {
-                    log.info("✅ Unique quest generated: '{}'", quest.getTitle());
-                    return questRepository.save(quest);
-                }
-
-                log.warn("⚠️ Duplicate quest detected (attempt {}/{}), regenerating...", 
-                         attempt + 1, maxAttempts);
-
-            } catch (Exception e) {
-                log.error("❌ Failed to generate quest (attempt {}/{})", attempt + 1, maxAttempts, e);
+    /**
+     * 🔥 카탈로그에서 사용자에게 배정할 항목 선택 (없으면 null)
+     * 사용자가 받은 적 없는 항목 중 최근 퀘스트와 중복되지 않는 첫 항목 (시작 위치는 무작위)
+     */
+    private QuestCatalogEntry pickFromCatalog(User user, LocalDate date) {
+        List<QuestCatalogIndex.Entry> entries = questCatalogIndex.entries();
+        if (entries.isEmpty()) {
+            return null;
+        }
+
+        Set<Long> used = new HashSet<>(questRepository.findCatalogEntryIdsByUser(user));
+        int start = ThreadLocalRandom.current().nextInt(entries.size());
+        int checked = 0;
+
+        for (int i = 0; i < entries.size() && checked < MAX_CATALOG_CANDIDATES; i++) {
+            QuestCatalogIndex.Entry entry = entries.get((start + i) % entries.size());
+            if (used.contains(entry.id())) {
+                continue;
+            }
+            checked++;
+
+            double similarity = questVectorIndex.maxSimilarity(
+                    user, entry.vector(), date.minusDays(QuestVectorIndex.WINDOW_DAYS), date.minusDays(1));
+            if (similarity <= DUPLICATE_THRESHOLD) {
+                return questCatalogRepository.findById(entry.id()).orElse(null);
             }
         }
 
-        // 3번 실패하면 기본 퀘스트
-        log.warn("❌ Failed to generate unique quest after {} attempts, using default", maxAttempts);
-        return createDefaultQuest(user, date);
+        log.info("📚 No usable catalog entry for user {} ({} checked), generating with LLM", user.getId(), checked);
+        return null;
     }
 
     /**
-     * 🔥 중복 퀘스트 체크 (Embedding 유사도 기반)
+     * AI로 퀘스트 생성 후 저장 (중복 체크 포함)
+     *
+     * 프롬프트 구성(최근 퀘스트 조회) → [LLM 호출 ∥ 중복 체크 인덱스 로드] → 파싱 → Embedding → 중복 체크
+     * → 카탈로그 등록 → [저장(짧은 트랜잭션) ∥ YouTube 검색] → 링크 반영
      */
-    private boolean isDuplicateQuest(User user, Quest newQuest) {
-        // 최근 30일 퀘스트 가져오기
-        var recentQuests = questRepository
-            .findByUserAndQuestDateBetween(
-                user,
-                LocalDate.now().minusDays(30),
-                LocalDate.now().minusDays(1)
-            );
+    private Mono<QuestResponse> generateWithLlm(User user, LocalDate date) {
+        log.info("📝 Generating new quest for user {} on date: {}", user.getId(), date);
+
+        // 중복 체크 인덱스는 첫 LLM 호출과 동시에 로드 (재시도 시 재사용)
+        Mono<Boolean> indexReady = Mono.fromRunnable(() -> questVectorIndex.warmUp(user))
+                .subscribeOn(Schedulers.boundedElastic())
+                .thenReturn(Boolean.TRUE)
+                .cache();
+
+        return Mono.fromCallable(() -> buildQuestPrompt(user, date))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(prompt -> generateUniqueQuest(user, date, prompt, indexReady, 0))
+                .flatMap(quest -> saveWithVideo(user, date, quest))
+                // 3번 실패하면 기본 퀘스트
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.warn("❌ Failed to generate unique quest after {} attempts, using default", MAX_ATTEMPTS);
+                    return saveDefaultQuest(user, date);
+                }));
+    }
 
-        if (recentQuests.isEmpty()) {
-            return false;  // 첫 퀘스트는 중복 없음
-        }
+    private Mono<QuestResponse> saveDefaultQuest(User user, LocalDate date) {
+        return save(user, date, createDefaultQuest(user, date)).map(SavedQuest::toResponse);
+    }
 
-        float[] newEmbedding = newQuest.getTitleEmbeddingArray();
-        if (newEmbedding == null) {
-            return false;  // Embedding 없으면 중복 체크 불가
+    /**
+     * 중복되지 않는 퀘스트가 나올 때까지 최대 MAX_ATTEMPTS번 생성 (모두 실패하면 empty)
+     */
+    private Mono<Quest> generateUniqueQuest(User user, LocalDate date, String prompt,
+                                            Mono<Boolean> indexReady, int attempt) {
+        if (attempt >= MAX_ATTEMPTS) {
+            return Mono.empty();
         }
 
-        for (Quest recent : recentQuests) {
-            float[] recentEmbedding = recent.getTitleEmbeddingArray();
-
-            // 기존 퀘스트에 embedding 없으면 생성
-            if (recentEmbedding == null) {
-                recentEmbedding = openAIService.createEmbedding(recent.getTitle());
-                recent.setTitleEmbeddingArray(recentEmbedding);
-                questRepository.save(recent);
-            }
+        return Mono.zip(openAIService.chat(prompt), indexReady)
+                .flatMap(tuple -> toUniqueQuest(user, date, tuple.getT1(), attempt))
+                // 429는 재시도해도 같은 결과 → 바로 전파
+                .onErrorResume(e -> !(e instanceof WebClientResponseException.TooManyRequests), e -> {
+                    log.error("❌ Failed to generate quest (attempt {}/{})", attempt + 1, MAX_ATTEMPTS, e);
+                    return Mono.empty();
+                })
+                .switchIfEmpty(Mono.defer(() -> generateUniqueQuest(user, date, prompt, indexReady, attempt + 1)));
+    }
 
-            // 🔥 코사인 유사도 계산
-            double similarity = cosineSimilarity(newEmbedding, recentEmbedding);
+    /**
+     * LLM 응답 → 파싱 → Embedding → 중복 체크 (중복이면 empty)
+     */
+    private Mono<Quest> toUniqueQuest(User user, LocalDate date, String aiResponse, int attempt) {
+        // JSON 파싱 후 Quest 엔티티 생성
+        return Mono.fromCallable(() -> parseQuestResponse(aiResponse))
+                .map(questData -> Quest.builder()
+                        .user(user)
+                        .title(questData.getTitle())
+                        .description(questData.getDescription())
+                        .category(questData.getCategory())
+                        .questDate(date)
+                        .build())
+                // 🔥 Embedding 생성 (같은 제목이면 캐시)
+                .flatMap(quest -> cachedEmbeddingService.getEmbedding(quest.getTitle())
+                        .map(embedding -> {
+                            quest.setTitleEmbeddingArray(embedding);
+                            return new Candidate(quest, embedding);
+                        }))
+                // 🔥 중복 체크 (인덱스는 로드된 상태 - 날짜가 바뀐 경우의 재로드 대비해 boundedElastic에서)
+                .publishOn(Schedulers.boundedElastic())
+                .filter(candidate -> {
+                    if (isDuplicateQuest(user, candidate.quest(), candidate.embedding())) {
+                        log.warn("⚠️ Duplicate quest detected (attempt {}/{}), regenerating...",
+                                attempt + 1, MAX_ATTEMPTS);
+                        return false;
+                    }
+                    log.info("✅ Unique quest generated: '{}'", candidate.quest().getTitle());
+                    return true;
+                })
+                .map(candidate -> linkCatalog(candidate.quest(), candidate.embedding()));
+    }
 
-            if (similarity > 0.85) {  // 85% 이상 유사하면 중복
-                log.info("🔍 Similar quest found: '{}' ↔ '{}' (similarity: {:.2f}%)",
-                         newQuest.getTitle(), recent.getTitle(), similarity * 100);
-                return true;
+    /**
+     * 🔥 새로 생성한 퀘스트를 카탈로그에 등록 (같은 제목이 이미 있으면 그 항목에 연결)
+     * 카탈로그 항목에 유튜브 링크가 있으면 그대로 사용 → YouTube 검색 생략
+     * 등록 실패는 퀘스트 생성을 막지 않음
+     */
+    private Quest linkCatalog(Quest quest, float[] embedding) {
+        String title = CachedEmbeddingService.normalize(quest.getTitle());
+        try {
+            QuestCatalogEntry entry = questCatalogRepository.findByTitle(title)
+                    .orElseGet(() -> {
+                        try {
+                            return questCatalogRepository.save(QuestCatalogEntry.from(quest, title, embedding));
+                        } catch (DataIntegrityViolationException e) {
+                            return questCatalogRepository.findByTitle(title).orElseThrow(() -> e);
+                        }
+                    });
+            questCatalogIndex.add(entry);
+            quest.setCatalogEntry(entry);
+            if (quest.getYoutubeUrl() == null) {
+                quest.setYoutubeUrl(entry.getYoutubeUrl());
             }
+        } catch (Exception e) {
+            log.warn("⚠️ Failed to register quest in catalog: '{}'", title, e);
         }
-
-        return false;
+        return quest;
     }
 
     /**
-     * 🔥 코사인 유사도 계산
-     * 두 벡터 사이의 각도를 측정 (0~1, 1에 가까울수록 유사)
+     * 저장과 YouTube 검색을 동시에 수행하고, 링크가 있으면 저장된 퀘스트에 반영
      */
-    private double cosineSimilarity(float[] vecA, float[] vecB) {
-        if (vecA.length != vecB.length) {
-            throw new IllegalArgumentException("Vectors must have same length");
+    private Mono<QuestResponse> saveWithVideo(User user, LocalDate date, Quest quest) {
+        if (quest.getYoutubeUrl() != null) {
+            return save(user, date, quest).map(SavedQuest::toResponse);  // 카탈로그 링크 재사용
         }
 
-        // 1. 내적 계산 (A · B)
-        double dotProduct = 0.0;
-        for (int i = 0; i < vecA.length; i++) {
-            dotProduct += vecA[i] * vecB[i];
+        Mono<Optional<String>> video = youtubeService.searchVideoAsync(quest.getTitle())
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty());
+
+        return Mono.zip(save(user, date, quest), video)
+                .flatMap(tuple -> {
+                    SavedQuest saved = tuple.getT1();
+                    Optional<String> youtubeUrl = tuple.getT2();
+                    if (!saved.created() || youtubeUrl.isEmpty()) {
+                        return Mono.just(saved.toResponse());
+                    }
+
+                    // 유튜브 링크 반영 (UPDATE 1건짜리 짧은 트랜잭션)
+                    return Mono.fromCallable(() -> {
+                                transactionTemplate.executeWithoutResult(status -> {
+                                    questRepository.updateYoutubeUrl(saved.quest().getId(), youtubeUrl.get());
+                                    // 카탈로그 항목에도 반영 → 다음 사용자부터 검색 생략
+                                    if (saved.quest().getCatalogEntry() != null
+                                            && !YouTubeService.isFallbackUrl(youtubeUrl.get())) {
+                                        questCatalogRepository.updateYoutubeUrlIfAbsent(
+                                                saved.quest().getCatalogEntry().getId(), youtubeUrl.get());
+                                    }
+                                });
+                                saved.quest().setYoutubeUrl(youtubeUrl.get());
+                                log.info("✅ YouTube link added: {}", youtubeUrl.get());
+                                return saved.toResponse();
+                            })
+                            .subscribeOn(Schedulers.boundedElastic());
+                });
+    }
+
+    /**
+     * 퀘스트 + 사용자 할당 저장 (INSERT만 감싸는 짧은 트랜잭션)
+     * 그 사이 같은 날짜 퀘스트가 생겼다면 기존 퀘스트 사용
+     */
+    private Mono<SavedQuest> save(User user, LocalDate date, Quest quest) {
+        return Mono.fromCallable(() -> {
+                    try {
+                        return transactionTemplate.execute(status -> findExisting(user, date)
+                                .orElseGet(() -> {
+                                    Quest saved = questRepository.save(quest);
+                                    UserQuest userQuest = createUserQuest(user, saved);
+                                    return new SavedQuest(saved, userQuest, true);
+                                }));
+                    } catch (DataIntegrityViolationException e) {
+                        // 다른 서버/스레드가 먼저 저장 (user_id, quest_date 유니크) → 새 트랜잭션에서 다시 조회
+                        log.warn("⚠️ Concurrent quest insert for user {} on date {}, using existing quest",
+                                user.getId(), date);
+                        return transactionTemplate.execute(status -> findExisting(user, date).orElseThrow(() -> e));
+                    }
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnNext(saved -> {
+                    if (saved.created()) {
+                        questVectorIndex.add(user.getId(), saved.quest());
+                    }
+                });
+    }
+
+    private Optional<SavedQuest> findExisting(User user, LocalDate date) {
+        return questRepository.findByUserAndQuestDate(user, date)
+                .map(found -> {
+                    log.warn("⚠️ Quest already exists for user {} on date {}, returning existing quest",
+                            user.getId(), date);
+                    UserQuest userQuest = userQuestRepository.findByUserAndQuest(user, found)
+                            .orElseGet(() -> createUserQuest(user, found));
+                    return new SavedQuest(found, userQuest, false);
+                });
+    }
+
+    private record Candidate(Quest quest, float[] embedding) {
+    }
+
+    private record SavedQuest(Quest quest, UserQuest userQuest, boolean created) {
+
+        QuestResponse toResponse() {
+            return QuestResponse.from(quest, userQuest);
         }
+    }
 
-        // 2. 크기 계산 (||A||, ||B||)
-        double normA = 0.0;
-        double normB = 0.0;
-        for (int i = 0; i < vecA.length; i++) {
-            normA += vecA[i] * vecA[i];
-            normB += vecB[i] * vecB[i];
+    /**
+     * 🔥 중복 퀘스트 체크 (Embedding 유사도 기반)
+     * 사용자별 인메모리 인덱스에 한 번 질의 (퀘스트 날짜 기준 최근 30일 중 최대 유사도)
+     */
+    private boolean isDuplicateQuest(User user, Quest newQuest, float[] newEmbedding) {
+        if (newEmbedding == null) {
+            return false;  // Embedding 없으면 중복 체크 불가
         }
-        normA = Math.sqrt(normA);
-        normB = Math.sqrt(normB);
 
-        // 3. 코사인 유사도
-        if (normA == 0.0 || normB == 0.0) {
-            return 0.0;
+        LocalDate questDate = newQuest.getQuestDate();
+        double similarity = questVectorIndex.maxSimilarity(
+                user,
+                newEmbedding,
+                questDate.minusDays(QuestVectorIndex.WINDOW_DAYS),
+                questDate.minusDays(1)
+        );
+
+        if (similarity > DUPLICATE_THRESHOLD) {  // 85% 이상 유사하면 중복
+            log.info("🔍 Similar quest found for '{}' (similarity: {}%)",
+                     newQuest.getTitle(), String.format("%.2f", similarity * 100));
+            return true;
         }
 
-        return dotProduct / (normA * normB);
+        return false;
     }
 
     /**
@@ -326,10 +578,10 @@ public class QuestService {
     }
 
     /**
-     * 기본 퀘스트 생성 (AI 실패 시)
+     * 기본 퀘스트 생성 (AI 실패 시) - 저장은 save()에서
      */
     private Quest createDefaultQuest(User user, LocalDate date) {
-        return questRepository.save(Quest.builder()
+        return Quest.builder()
                 .user(user)  // 🔥 사용자 연결
                 .title("오늘 하루도 여기까지 온 나를 칭찬하기")
                 .description("오늘 하루를 버텨낸 것만으로도 충분해요. " +
@@ -337,7 +589,7 @@ public class QuestService {
                            "작은 걸음도 전진이랍니다 💙")
                 .category(QuestCategory.MINDFULNESS)
                 .questDate(date)
-                .build());
+                .build();
     }
 
     /**
@@ -368,12 +620,10 @@ public class QuestService {
     }
 
     /**
-     * 이메일로 퀘스트 완료 처리
+     * userId로 퀘스트 완료 처리
      */
     @Transactional
-    public void completeQuestByEmail(String email, Long questId) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("User not found: " + email));
-        completeQuest(user, questId);
+    public void completeQuest(Long userId, Long questId) {
+        completeQuest(userRepository.getReferenceById(userId), questId);
     }
 }
@@ -0,0 +1,177 @@
+package Wonbin.FinalProject.ai.quest.service;
+
+import Wonbin.FinalProject.ai.common.service.CachedEmbeddingService;
+import Wonbin.FinalProject.ai.common.vector.VectorMath;
+import Wonbin.FinalProject.ai.quest.domain.Quest;
+import Wonbin.FinalProject.ai.quest.repository.QuestRepository;
+import Wonbin.FinalProject.auth.domain.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 🔥 사용자별 퀘스트 Embedding 인메모리 인덱스
+ * 중복 체크 시 최근 퀘스트의 JSON 파싱 / DB 조회 없이 "최근 N일 중 최대 유사도"를 바로 계산
+ *
+ * - 사용자별 최초 조회 시 최근 WINDOW_DAYS일 퀘스트를 한 번만 로드 (날짜가 바뀌면 다시 로드)
+ * - 새 퀘스트 저장 시 add()로 인덱스에 반영
+ * - 각 항목은 벡터와 norm을 함께 보관 → 비교 한 번에 내적 한 번
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuestVectorIndex {
+
+    static final int WINDOW_DAYS = 30;        // 중복 체크 기간
+    private static final int MAX_USERS = 10_000; // 인덱스에 보관할 최대 사용자 수
+
+    private final QuestRepository questRepository;
+    private final CachedEmbeddingService cachedEmbeddingService;
+
+    private final ConcurrentHashMap<Long, UserVectors> indexByUser = new ConcurrentHashMap<>();
+
+    /**
+     * 기간 [from, to] 내 사용자 퀘스트와의 최대 코사인 유사도 (비교 대상이 없으면 0)
+     */
+    public double maxSimilarity(User user, float[] query, LocalDate from, LocalDate to) {
+        float queryNorm = VectorMath.norm(query);
+        if (queryNorm == 0f) {
+            return 0.0;
+        }
+
+        double max = 0.0;
+        for (Entry entry : vectorsOf(user).entries()) {
+            if (entry.questDate().isBefore(from) || entry.questDate().isAfter(to)) {
+                continue;
+            }
+            if (entry.vector().length != query.length) {
+                continue;  // 다른 모델로 만든 embedding은 비교 불가
+            }
+
+            double similarity = VectorMath.cosine(query, queryNorm, entry.vector(), entry.norm());
+            if (similarity > max) {
+                max = similarity;
+            }
+        }
+        return max;
+    }
+
+    /**
+     * 사용자 인덱스 미리 로드 (퀘스트 생성 시 LLM 호출과 동시에 수행)
+     */
+    public void warmUp(User user) {
+        vectorsOf(user);
+    }
+
+    /**
+     * 새로 저장된 퀘스트를 인덱스에 추가 (인덱스가 로드되지 않은 사용자는 다음 조회 때 DB에서 로드)
+     */
+    public void add(Long userId, Quest quest) {
+        Entry entry = toEntry(quest);
+        if (entry == null) return;
+
+        LocalDate cutoff = LocalDate.now().minusDays(WINDOW_DAYS);
+        indexByUser.computeIfPresent(userId, (id, vectors) -> vectors.with(entry, cutoff));
+    }
+
+    /**
+     * 사용자 인덱스 제거 (퀘스트 삭제 등)
+     */
+    public void evict(Long userId) {
+        indexByUser.remove(userId);
+    }
+
+    private UserVectors vectorsOf(User user) {
+        LocalDate today = LocalDate.now();
+        UserVectors vectors = indexByUser.get(user.getId());
+        if (vectors != null && vectors.loadedOn().equals(today)) {
+            return vectors;
+        }
+
+        // 로드(DB/Embedding API)는 맵 락 밖에서 수행
+        UserVectors loaded = load(user, today);
+        if (indexByUser.size() >= MAX_USERS && !indexByUser.containsKey(user.getId())) {
+            evictOne();
+        }
+        indexByUser.put(user.getId(), loaded);
+        return loaded;
+    }
+
+    private UserVectors load(User user, LocalDate today) {
+        List<Quest> quests = questRepository.findByUserAndQuestDateBetween(
+                user, today.minusDays(WINDOW_DAYS), today);
+
+        List<Entry> entries = new ArrayList<>(quests.size());
+        for (Quest quest : quests) {
+            if (quest.getTitleEmbeddingVector() == null) {
+                backfill(quest);
+            }
+            Entry entry = toEntry(quest);
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+
+        log.debug("🔍 Quest vector index loaded: userId={}, entries={}", user.getId(), entries.size());
+        return new UserVectors(today, List.copyOf(entries));
+    }
+
+    /**
+     * 바이너리 embedding이 없는 퀘스트 보정 (레거시 JSON 변환 or 새로 생성) - 사용자별 로드 시 한 번만
+     */
+    private void backfill(Quest quest) {
+        if (quest.getTitleEmbedding() != null) {
+            quest.migrateLegacyEmbedding();
+        }
+        if (quest.getTitleEmbeddingVector() == null) {
+            quest.setTitleEmbeddingArray(cachedEmbeddingService.getEmbeddingBlocking(quest.getTitle()));
+        }
+        questRepository.save(quest);
+    }
+
+    private Entry toEntry(Quest quest) {
+        float[] vector = quest.getTitleEmbeddingArray();
+        if (vector == null) return null;
+
+        float norm = quest.getTitleEmbeddingNorm() != null
+                ? quest.getTitleEmbeddingNorm()
+                : VectorMath.norm(vector);
+        if (norm == 0f) return null;
+
+        return new Entry(quest.getId(), quest.getQuestDate(), vector, norm);
+    }
+
+    private void evictOne() {
+        Iterator<Long> it = indexByUser.keySet().iterator();
+        if (it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private record Entry(Long questId, LocalDate questDate, float[] vector, float norm) {
+    }
+
+    /**
+     * 사용자별 불변 스냅샷 (교체 방식으로 갱신 → 조회 시 락 불필요)
+     */
+    private record UserVectors(LocalDate loadedOn, List<Entry> entries) {
+
+        UserVectors with(Entry entry, LocalDate cutoff) {
+            List<Entry> next = new ArrayList<>(entries.size() + 1);
+            for (Entry e : entries) {
+                if (!e.questDate().isBefore(cutoff) && !e.questId().equals(entry.questId())) {
+                    next.add(e);
+                }
+            }
+            next.add(entry);
+            return new UserVectors(loadedOn, List.copyOf(next));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package Wonbin.FinalProject.ai.quest.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 🔥 YouTube Data API 일일 할당량 관리 (인스턴스별)
+ *
+ * - /search 1회 = 100 units, 기본 일일 한도 10,000 units
+ * - 할당량은 태평양 시간 자정에 초기화
+ * - reserve-units만큼은 남겨 둠 → 한도에 가까워지면 API 대신 캐시 / 대체 링크 사용
+ * - API가 quotaExceeded를 반환하면 그날은 더 호출하지 않음
+ * - 메트릭: youtube.quota.used, youtube.quota.denied
+ */
+@Slf4j
+@Component
+public class YouTubeQuotaAccountant {
+
+    public static final int SEARCH_COST = 100;
+    private static final ZoneId QUOTA_ZONE = ZoneId.of("America/Los_Angeles");
+
+    private final int dailyUnits;
+    private final int reserveUnits;
+
+    private final AtomicReference<LocalDate> quotaDay = new AtomicReference<>();
+    private final AtomicInteger used = new AtomicInteger();
+    private final Counter deniedCounter;
+
+    public YouTubeQuotaAccountant(MeterRegistry meterRegistry,
+                                  @Value("${youtube.quota.daily-units:10000}") int dailyUnits,
+                                  @Value("${youtube.quota.reserve-units:1000}") int reserveUnits) {
+        this.dailyUnits = dailyUnits;
+        this.reserveUnits = reserveUnits;
+
+        Gauge.builder("youtube.quota.used", used, AtomicInteger::get)
+                .description("YouTube Data API units spent today (this instance)")
+                .register(meterRegistry);
+        this.deniedCounter = Counter.builder("youtube.quota.denied").register(meterRegistry);
+    }
+
+    /**
+     * units만큼 사용 가능하면 차감하고 true
+     */
+    public boolean tryAcquire(int units) {
+        rollOverIfNeeded();
+
+        int limit = dailyUnits - reserveUnits;
+        while (true) {
+            int current = used.get();
+            if (current + units > limit) {
+                deniedCounter.increment();
+                return false;
+            }
+            if (used.compareAndSet(current, current + units)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * API가 할당량 초과를 알려온 경우 - 오늘은 더 호출하지 않음
+     */
+    public void markExhausted() {
+        rollOverIfNeeded();
+        used.set(dailyUnits);
+        log.warn("⚠️ YouTube quota exhausted for {}", quotaDay.get());
+    }
+
+    public int getRemaining() {
+        rollOverIfNeeded();
+        return Math.max(0, dailyUnits - used.get());
+    }
+
+    private void rollOverIfNeeded() {
+        LocalDate today = LocalDate.now(QUOTA_ZONE);
+        LocalDate current = quotaDay.get();
+        if (!today.equals(current) && quotaDay.compareAndSet(current, today)) {
+            used.set(0);
+        }
+    }
+}
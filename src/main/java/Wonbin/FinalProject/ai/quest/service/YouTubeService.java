@@ -1,56 +1,170 @@
 package Wonbin.FinalProject.ai.quest.service;
 
+import Wonbin.FinalProject.ai.common.service.CachedEmbeddingService;
+import Wonbin.FinalProject.ai.quest.domain.YouTubeSearchCacheEntry;
+import Wonbin.FinalProject.ai.quest.repository.YouTubeSearchCacheRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
+/**
+ * 유튜브 영상 검색
+ *
+ * 🔥 캐시 → 할당량 확인 → /search 순서로 조회
+ * - 정규화된 검색어별 결과를 youtube_search_cache에 저장 (결과 없음도 짧은 TTL로 저장)
+ * - 할당량이 부족하면 만료된 캐시 or 유튜브 검색 결과 페이지 링크로 대체
+ */
+@Slf4j
 @Service
 public class YouTubeService {
 
+    private static final String WATCH_URL = "https://www.youtube.com/watch?v=";
+    private static final String FALLBACK_URL = "https://www.youtube.com/results?search_query=";
+
     private final WebClient webClient;
     private final String apiKey;
+    private final YouTubeSearchCacheRepository cacheRepository;
+    private final YouTubeQuotaAccountant quotaAccountant;
+    private final Duration positiveTtl;
+    private final Duration negativeTtl;
 
-    public YouTubeService(@Value("${youtube.api-key}") String apiKey) {
+    public YouTubeService(@Qualifier("youtubeWebClient") WebClient webClient,
+                          @Value("${youtube.api-key}") String apiKey,
+                          YouTubeSearchCacheRepository cacheRepository,
+                          YouTubeQuotaAccountant quotaAccountant,
+                          @Value("${youtube.cache.ttl-days:30}") long positiveTtlDays,
+                          @Value("${youtube.cache.negative-ttl-hours:24}") long negativeTtlHours) {
+        this.webClient = webClient;  // 커넥션 풀 / 타임아웃은 HttpClientConfig에서 설정
         this.apiKey = apiKey;
-        this.webClient = WebClient.builder()
-                .baseUrl("https://www.googleapis.com/youtube/v3")
-                .build();
+        this.cacheRepository = cacheRepository;
+        this.quotaAccountant = quotaAccountant;
+        this.positiveTtl = Duration.ofDays(positiveTtlDays);
+        this.negativeTtl = Duration.ofHours(negativeTtlHours);
     }
 
     /**
      * 검색어로 유튜브 영상 검색 (가장 관련성 높은 영상 1개)
      */
     public String searchVideo(String query) {
+        return searchVideoAsync(query).block();
+    }
+
+    /**
+     * 검색어로 유튜브 영상 검색 (논블로킹, 결과가 없으면 empty)
+     * 할당량 부족 / API 실패 시에는 검색 결과 페이지 링크 (isFallbackUrl로 구분)
+     */
+    public Mono<String> searchVideoAsync(String query) {
+        String queryKey = CachedEmbeddingService.normalize(query);
+
+        return Mono.fromCallable(() -> cacheRepository.findByQueryKey(queryKey))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(cached -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    if (cached.isPresent() && !cached.get().isExpired(now)) {
+                        log.debug("YouTube cache hit: '{}'", queryKey);
+                        return Mono.justOrEmpty(cached.get().getVideoUrl());  // null이면 결과 없음
+                    }
+
+                    if (!quotaAccountant.tryAcquire(YouTubeQuotaAccountant.SEARCH_COST)) {
+                        log.warn("⚠️ YouTube quota low, serving cached/fallback link for '{}'", queryKey);
+                        return Mono.just(staleOrFallback(cached, queryKey));
+                    }
+
+                    return search(queryKey)
+                            .publishOn(Schedulers.boundedElastic())
+                            .doOnNext(result -> store(cached, queryKey, result.orElse(null)))
+                            .flatMap(Mono::justOrEmpty)
+                            .onErrorResume(e -> {
+                                if (isQuotaExceeded(e)) {
+                                    quotaAccountant.markExhausted();
+                                }
+                                log.warn("⚠️ YouTube 검색 실패: '{}' - {}", queryKey, e.getMessage());
+                                return Mono.just(staleOrFallback(cached, queryKey));
+                            });
+                });
+    }
+
+    /**
+     * 할당량 부족 / 실패 시 대체 링크인지 (카탈로그 등에 영구 저장하지 않도록)
+     */
+    public static boolean isFallbackUrl(String url) {
+        return url != null && url.startsWith(FALLBACK_URL);
+    }
+
+    /**
+     * /search 호출 (100 units) - 결과가 없으면 Optional.empty()
+     */
+    private Mono<Optional<String>> search(String query) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/search")
+                        .queryParam("part", "snippet")
+                        .queryParam("q", query)
+                        .queryParam("type", "video")
+                        .queryParam("maxResults", 1)
+                        .queryParam("order", "relevance")
+                        .queryParam("key", apiKey)
+                        .queryParam("regionCode", "KR")
+                        .queryParam("relevanceLanguage", "ko")
+                        .queryParam("videoDuration", "medium")
+                        .build())
+                .retrieve()
+                .bodyToMono(Map.class)
+                .map(response -> {
+                    List<Map<String, Object>> items = (List<Map<String, Object>>) response.get("items");
+                    if (items != null && !items.isEmpty()) {
+                        Map<String, Object> id = (Map<String, Object>) items.get(0).get("id");
+                        return Optional.of(WATCH_URL + id.get("videoId"));
+                    }
+                    return Optional.<String>empty();
+                });
+    }
+
+    /**
+     * 검색 결과 저장 (결과 없음은 negative TTL)
+     */
+    private void store(Optional<YouTubeSearchCacheEntry> cached, String queryKey, String videoUrl) {
+        LocalDateTime expiresAt = LocalDateTime.now().plus(videoUrl != null ? positiveTtl : negativeTtl);
         try {
-            Map<String, Object> response = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/search")
-                            .queryParam("part", "snippet")
-                            .queryParam("q", query)
-                            .queryParam("type", "video")
-                            .queryParam("maxResults", 1)
-                            .queryParam("order", "relevance")
-                            .queryParam("key", apiKey)
-                            .queryParam("regionCode", "KR")
-                            .queryParam("relevanceLanguage", "ko")
-                            .queryParam("videoDuration", "medium")
-                            .build())
-                    .retrieve()
-                    .bodyToMono(Map.class)
-                    .block();
-
-            List<Map<String, Object>> items = (List<Map<String, Object>>) response.get("items");
-            if (items != null && !items.isEmpty()) {
-                Map<String, Object> id = (Map<String, Object>) items.get(0).get("id");
-                String videoId = (String) id.get("videoId");
-                return "https://www.youtube.com/watch?v=" + videoId;
-            }
+            YouTubeSearchCacheEntry entry = cached
+                    .map(existing -> {
+                        existing.refresh(videoUrl, expiresAt);
+                        return existing;
+                    })
+                    .orElseGet(() -> YouTubeSearchCacheEntry.builder()
+                            .queryKey(queryKey)
+                            .videoUrl(videoUrl)
+                            .expiresAt(expiresAt)
+                            .build());
+            cacheRepository.save(entry);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("YouTube cache entry stored concurrently: '{}'", queryKey);
         } catch (Exception e) {
-            System.err.println("YouTube 검색 실패: " + e.getMessage());
+            log.warn("⚠️ Failed to store YouTube cache entry: '{}'", queryKey, e);
         }
-        return null;
+    }
+
+    private String staleOrFallback(Optional<YouTubeSearchCacheEntry> cached, String queryKey) {
+        return cached.map(YouTubeSearchCacheEntry::getVideoUrl)
+                .orElseGet(() -> FALLBACK_URL + URLEncoder.encode(queryKey, StandardCharsets.UTF_8));
+    }
+
+    private boolean isQuotaExceeded(Throwable e) {
+        return e instanceof WebClientResponseException.Forbidden forbidden
+                && forbidden.getResponseBodyAsString().contains("quotaExceeded");
     }
 }
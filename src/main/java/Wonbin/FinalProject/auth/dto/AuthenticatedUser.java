@@ -0,0 +1,27 @@
+package Wonbin.FinalProject.auth.dto;
+
+import Wonbin.FinalProject.auth.domain.User;
+import Wonbin.FinalProject.auth.domain.UserRole;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 인증된 사용자 스냅샷 (요청 처리에 필요한 최소 정보만 보관하는 불변 객체)
+ * 컨트롤러/서비스는 이 값을 받아 사용자 재조회 없이 userId로 작업
+ */
+@Getter
+@Builder
+public class AuthenticatedUser {
+
+    private final Long id;
+    private final String email;
+    private final UserRole role;
+
+    public static AuthenticatedUser from(User user) {
+        return AuthenticatedUser.builder()
+                .id(user.getId())
+                .email(user.getEmail())
+                .role(user.getRole())
+                .build();
+    }
+}
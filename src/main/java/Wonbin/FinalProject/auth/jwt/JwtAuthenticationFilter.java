@@ -15,12 +15,13 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtProvider jwtProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -31,9 +32,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String token = resolveToken(request);
 
-            // ✅ Access Token인지 확인하고 유효성 검증
-            if (StringUtils.hasText(token) && jwtProvider.validateAccessToken(token)) {
-                String email = jwtProvider.getEmail(token);
+            // ✅ Access Token인지 확인하고 유효성 검증 (캐시 hit 시 서명 검증 생략)
+            Optional<VerifiedToken> verified = StringUtils.hasText(token)
+                    ? verifiedTokenCache.verifyAccessToken(token)
+                    : Optional.empty();
+
+            if (verified.isPresent()) {
+                String email = verified.get().getSubject();
 
                 // ✅ 더 안전한 Authentication 객체 생성
                 UsernamePasswordAuthenticationToken authentication =
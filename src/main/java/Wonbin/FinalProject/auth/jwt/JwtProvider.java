@@ -7,7 +7,9 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.time.Instant;
 import java.util.Date;
+import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
@@ -15,6 +17,7 @@ import java.util.UUID;
 public class JwtProvider {
 
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;  // 불변 객체 - 한 번 만들어 재사용
 
     // ✅ 적절한 만료시간 설정
     private final long accessTokenExpireMs = 1000L * 60 * 60;      // 1시간
@@ -24,6 +27,9 @@ public class JwtProvider {
     public JwtProvider(@Value("${jwt.secret}") String secret) {
         // 최소 32바이트(256비트) 필요
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
     }
 
     // ✅ Access Token 생성
@@ -100,27 +106,40 @@ public class JwtProvider {
 
     // ✅ Access Token 전용 검증
     public boolean validateAccessToken(String token) {
-        if (!validate(token)) return false;
-
-        String tokenType = getTokenType(token);
-        return "ACCESS".equals(tokenType);
+        return verifyAccessToken(token).isPresent();
     }
 
     // ✅ Refresh Token 전용 검증
     public boolean validateRefreshToken(String token) {
-        if (!validate(token)) return false;
+        return verify(token).filter(VerifiedToken::isRefreshToken).isPresent();
+    }
+
+    // 🔥 한 번의 파싱(서명 검증 1회)으로 검증 + 클레임 추출
+    public Optional<VerifiedToken> verify(String token) {
+        try {
+            Claims claims = getClaims(token);
+            Date expiration = claims.getExpiration();
+
+            return Optional.of(new VerifiedToken(
+                    claims.getSubject(),
+                    claims.get("type", String.class),
+                    expiration != null ? expiration.toInstant() : Instant.MAX,
+                    claims.getId()
+            ));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("JWT 검증 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
 
-        String tokenType = getTokenType(token);
-        return "REFRESH".equals(tokenType);
+    // 🔥 Access Token 검증 + 클레임 추출 (JwtAuthenticationFilter용)
+    public Optional<VerifiedToken> verifyAccessToken(String token) {
+        return verify(token).filter(VerifiedToken::isAccessToken);
     }
 
     // ✅ Claims 추출 (공통 로직)
     private Claims getClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 
     // ✅ 토큰 만료까지 남은 시간 (밀리초)
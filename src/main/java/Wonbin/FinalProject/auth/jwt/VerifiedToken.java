@@ -0,0 +1,27 @@
+package Wonbin.FinalProject.auth.jwt;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증까지 끝난 토큰 정보 (한 번 파싱한 결과를 재사용)
+ */
+@Getter
+@RequiredArgsConstructor
+public class VerifiedToken {
+
+    private final String subject;     // 사용자 이메일
+    private final String type;        // ACCESS / REFRESH
+    private final Instant expiresAt;  // 만료 시각
+    private final String jti;         // JWT ID
+
+    public boolean isAccessToken() {
+        return "ACCESS".equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return "REFRESH".equals(type);
+    }
+}
@@ -0,0 +1,116 @@
+package Wonbin.FinalProject.auth.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * 🔥 검증이 끝난 Access Token 캐시
+ * 같은 토큰으로 반복 요청하는 모바일 클라이언트의 HMAC 재검증 비용 제거
+ *
+ * - key: 토큰 SHA-256 해시 (원문 토큰은 보관하지 않음)
+ * - 항목마다 토큰의 exp 시각에 만료 (Caffeine expireAfter)
+ * - 최대 크기 초과 시 자주 쓰이지 않는 항목부터 제거 (새 토큰도 계속 캐시됨)
+ * - 로그아웃은 Access Token을 폐기하지 않음 (Refresh Token만 삭제)
+ *   → 캐시가 없어도 exp 전까지 유효한 stateless JWT이므로 캐시 때문에 달라지는 동작 없음
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtProvider jwtProvider;
+    private final Cache<String, VerifiedToken> cache;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public VerifiedTokenCache(JwtProvider jwtProvider,
+                              MeterRegistry meterRegistry,
+                              @Value("${jwt.cache.max-size:10000}") int maxSize) {
+        this.jwtProvider = jwtProvider;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+
+        this.hits = Counter.builder("jwt.verified.cache.requests")
+                .tag("result", "hit")
+                .description("Access token lookups served from the verified-token cache")
+                .register(meterRegistry);
+        this.misses = Counter.builder("jwt.verified.cache.requests")
+                .tag("result", "miss")
+                .description("Access token lookups that required signature verification")
+                .register(meterRegistry);
+        Gauge.builder("jwt.verified.cache.hit.ratio", this, VerifiedTokenCache::hitRatio)
+                .description("Share of access token lookups served without HMAC verification")
+                .register(meterRegistry);
+        Gauge.builder("jwt.verified.cache.size", cache, Cache::estimatedSize)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Access Token 검증 (캐시 우선, 없으면 JwtProvider로 검증 후 캐시)
+     */
+    public Optional<VerifiedToken> verifyAccessToken(String token) {
+        String key = hash(token);
+
+        VerifiedToken cached = cache.getIfPresent(key);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+
+        misses.increment();
+        Optional<VerifiedToken> verified = jwtProvider.verifyAccessToken(token);
+        verified.ifPresent(v -> cache.put(key, v));
+        return verified;
+    }
+
+    double hitRatio() {
+        double hitCount = hits.count();
+        double total = hitCount + misses.count();
+        return total == 0 ? 0.0 : hitCount / total;
+    }
+
+    /**
+     * 항목 수명 = 토큰 exp까지 남은 시간 (이미 지났으면 0 → 바로 만료)
+     */
+    private static class UntilTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), token.getExpiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
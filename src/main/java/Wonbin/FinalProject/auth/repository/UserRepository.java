@@ -1,9 +1,14 @@
 package Wonbin.FinalProject.auth.repository;
 
 import Wonbin.FinalProject.auth.domain.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -28,4 +33,29 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * 제공자별 사용자 조회
      */
     Optional<User> findByProvider(String provider);
-}
\ No newline at end of file
+
+    /**
+     * 최근 활동 사용자 ID 조회 (afterId 이후, ID순 - keyset 페이징)
+     * 활동: 로그인(사용자 정보 갱신), 토큰 재발급, 일기 작성
+     */
+    @Query("select u.id from User u " +
+           "where u.id > :afterId and (" +
+           "  u.updatedAt >= :since" +
+           "  or exists (select r.email from RefreshTokenEntity r where r.email = u.email and r.updatedAt >= :since)" +
+           "  or exists (select d.id from Diary d where d.user = u and d.createdAt >= :since)" +
+           ") order by u.id")
+    List<Long> findActiveUserIdsAfter(@Param("afterId") Long afterId,
+                                      @Param("since") LocalDateTime since,
+                                      Pageable pageable);
+
+    /**
+     * 최근 활동 사용자 수 (afterId 이후)
+     */
+    @Query("select count(u) from User u " +
+           "where u.id > :afterId and (" +
+           "  u.updatedAt >= :since" +
+           "  or exists (select r.email from RefreshTokenEntity r where r.email = u.email and r.updatedAt >= :since)" +
+           "  or exists (select d.id from Diary d where d.user = u and d.createdAt >= :since)" +
+           ")")
+    long countActiveUsersAfter(@Param("afterId") Long afterId, @Param("since") LocalDateTime since);
+}
@@ -0,0 +1,15 @@
+package Wonbin.FinalProject.auth.resolver;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 파라미터에 인증된 사용자(AuthenticatedUser) 주입
+ * 예) public ResponseEntity<?> api(@LoginUser AuthenticatedUser user)
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LoginUser {
+}
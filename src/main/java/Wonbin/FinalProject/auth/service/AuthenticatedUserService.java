@@ -0,0 +1,72 @@
+package Wonbin.FinalProject.auth.service;
+
+import Wonbin.FinalProject.auth.domain.User;
+import Wonbin.FinalProject.auth.dto.AuthenticatedUser;
+import Wonbin.FinalProject.auth.repository.UserRepository;
+import Wonbin.FinalProject.global.InvalidUserException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 🔥 email → 사용자 스냅샷(id, email, role) 캐시
+ * 매 요청마다 findByEmail 하던 것을 TTL 동안 메모리에서 처리
+ *
+ * - 최대 크기 초과 시 만료 항목 정리 후에도 가득 차면 캐시하지 않음
+ * - 로그아웃 / 사용자 정보 변경 시 evict()
+ */
+@Slf4j
+@Service
+public class AuthenticatedUserService {
+
+    private final UserRepository userRepository;
+    private final Duration ttl;
+    private final int maxSize;
+    private final ConcurrentHashMap<String, CachedUser> cache = new ConcurrentHashMap<>();
+
+    public AuthenticatedUserService(UserRepository userRepository,
+                                    @Value("${auth.user-cache.ttl-seconds:600}") long ttlSeconds,
+                                    @Value("${auth.user-cache.max-size:10000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * email로 사용자 스냅샷 조회 (캐시 우선)
+     */
+    public AuthenticatedUser getByEmail(String email) {
+        Instant now = Instant.now();
+        CachedUser cached = cache.get(email);
+        if (cached != null && cached.expiresAt().isAfter(now)) {
+            return cached.user();
+        }
+
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new InvalidUserException("사용자를 찾을 수 없습니다."));
+        AuthenticatedUser snapshot = AuthenticatedUser.from(user);
+
+        if (cache.size() >= maxSize) {
+            cache.values().removeIf(entry -> !entry.expiresAt().isAfter(now));
+        }
+        if (cache.size() < maxSize) {
+            cache.put(email, new CachedUser(snapshot, now.plus(ttl)));
+        }
+        return snapshot;
+    }
+
+    /**
+     * 캐시 무효화
+     */
+    public void evict(String email) {
+        cache.remove(email);
+        log.debug("Authenticated user cache evicted: {}", email);
+    }
+
+    private record CachedUser(AuthenticatedUser user, Instant expiresAt) {
+    }
+}
@@ -13,6 +13,7 @@ import java.util.Optional;
 public class RefreshTokenService {
 
     private final RefreshTokenRepository refreshTokenRepository;
+    private final AuthenticatedUserService authenticatedUserService;
 
     /**
      * Refresh Token 저장
@@ -56,9 +57,12 @@ public class RefreshTokenService {
 
     /**
      * ✅ 메서드명 통일 (delete)
+     * 로그아웃 시 사용자 스냅샷 캐시도 함께 무효화
+     * (Access Token은 폐기하지 않음 - exp까지 유효, VerifiedTokenCache 참고)
      */
     public void delete(String email) {
         deleteByEmail(email);
+        authenticatedUserService.evict(email);
     }
 
     /**
@@ -0,0 +1,90 @@
+package Wonbin.FinalProject.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 🔥 @Async / 백그라운드 작업용 스레드 풀
+ *
+ * - taskExecutor: @Async 기본 실행기 (토큰 캐시 정리, 대화 요약, 배치 등)
+ * - questTaskExecutor: 로그인 시 퀘스트 미리 생성 전용 → LLM 동시 호출 수 = 최대 스레드 수
+ * - 둘 다 대기열 크기 제한
+ *   taskExecutor: 가득 차면 버리고 집계 (@Async 작업은 모두 fire-and-forget → 이미 끝난 요청을 실패시키지 않음)
+ *   questTaskExecutor: 가득 차면 예외 (QuestPreparationDispatcher가 처리)
+ * - 메트릭: executor.queued / executor.active / executor.pool.size ... {name}, executor.rejected{name}
+ * - vthreads 프로필(spring.threads.virtual.enabled=true): taskExecutor는 가상 스레드 (동시 실행 수만 제한)
+ *   questTaskExecutor는 LLM 동시 호출 제한이 목적이라 그대로 스레드 풀 사용
+ */
+@Slf4j
+@Configuration
+public class AsyncConfig {
+
+    @Bean(name = "taskExecutor")
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor taskExecutor(MeterRegistry meterRegistry,
+                                               @Value("${async.default.core-size:4}") int coreSize,
+                                               @Value("${async.default.max-size:16}") int maxSize,
+                                               @Value("${async.default.queue-capacity:500}") int queueCapacity) {
+        return boundedExecutor("async-", "default", coreSize, maxSize, queueCapacity, false, meterRegistry);
+    }
+
+    @Bean(name = "taskExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor virtualTaskExecutor(@Value("${async.default.virtual-concurrency-limit:200}") int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("async-vt-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);  // 초과 시 제출한 쪽이 대기
+        executor.setTaskTerminationTimeout(30_000);
+        return executor;
+    }
+
+    @Bean(name = "questTaskExecutor")
+    public ThreadPoolTaskExecutor questTaskExecutor(MeterRegistry meterRegistry,
+                                                    @Value("${async.quest.core-size:4}") int coreSize,
+                                                    @Value("${async.quest.max-size:8}") int maxSize,
+                                                    @Value("${async.quest.queue-capacity:200}") int queueCapacity) {
+        return boundedExecutor("quest-", "quest", coreSize, maxSize, queueCapacity, true, meterRegistry);
+    }
+
+    static ThreadPoolTaskExecutor boundedExecutor(String threadPrefix, String name,
+                                                  int coreSize, int maxSize, int queueCapacity,
+                                                  boolean abortOnReject, MeterRegistry meterRegistry) {
+        Counter rejected = Counter.builder("executor.rejected")
+                .description("Tasks rejected because the queue was full")
+                .tag("name", name)
+                .register(meterRegistry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadPrefix);
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        // 거절 건수 집계 후 예외 전파 (AbortPolicy) 또는 버림
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            if (abortOnReject) {
+                new ThreadPoolExecutor.AbortPolicy().rejectedExecution(task, pool);
+            }
+            log.warn("⚠️ Executor '{}' queue full, task discarded", name);
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        // 대기열 깊이 / 활성 스레드 수 등 게이지
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), name, Tags.empty()).bindTo(meterRegistry);
+        return executor;
+    }
+}
@@ -0,0 +1,49 @@
+package Wonbin.FinalProject.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * 🔥 DB 커넥션 풀 사용률 메트릭
+ * hikaricp.connections.utilization = 사용 중 커넥션 / 최대 풀 크기 (1에 가까우면 요청이 커넥션을 기다림)
+ * 대기 중인 스레드 수는 Spring Boot 기본 메트릭 hikaricp.connections.pending 으로 확인
+ */
+@Configuration
+public class DataSourceMetricsConfig {
+
+    @Bean
+    public MeterBinder hikariUtilizationMetrics(DataSource dataSource) {
+        return registry -> {
+            HikariDataSource hikari = unwrap(dataSource);
+            if (hikari == null) return;
+
+            Gauge.builder("hikaricp.connections.utilization", hikari, DataSourceMetricsConfig::utilization)
+                    .description("Active connections / maximum pool size")
+                    .tag("pool", String.valueOf(hikari.getPoolName()))
+                    .register(registry);
+        };
+    }
+
+    private static double utilization(HikariDataSource hikari) {
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        if (pool == null || hikari.getMaximumPoolSize() <= 0) {
+            return 0.0;  // 아직 풀이 시작되지 않음
+        }
+        return (double) pool.getActiveConnections() / hikari.getMaximumPoolSize();
+    }
+
+    private static HikariDataSource unwrap(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package Wonbin.FinalProject.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * 🔥 외부 API(OpenAI, YouTube) 호출용 WebClient 설정
+ *
+ * - 호스트별 커넥션 풀 (최대 연결 수, 대기열 크기, 대기 시간 제한, keep-alive)
+ * - connect / response 타임아웃 → 느린 외부 API가 요청 스레드를 무한정 붙잡지 않음
+ * - https면 HTTP/2 우선 (ALPN 협상 실패 시 HTTP/1.1)
+ * - 메트릭: reactor.netty.connection.provider.* (풀 포화도), reactor.netty.http.client.* (호스트별 지연시간),
+ *           http.client.requests (Spring Boot WebClient.Builder 관측)
+ */
+@Configuration
+public class HttpClientConfig {
+
+    private static final int MAX_IN_MEMORY_SIZE = 2 * 1024 * 1024;  // 응답 최대 2MB
+
+    @Bean
+    public WebClient openAiWebClient(WebClient.Builder builder,
+                                     @Value("${openai.api-key}") String apiKey,
+                                     @Value("${openai.base-url:https://api.openai.com/v1}") String baseUrl,
+                                     @Value("${openai.http.max-connections:100}") int maxConnections,
+                                     @Value("${openai.http.connect-timeout-ms:3000}") long connectTimeoutMs,
+                                     @Value("${openai.http.response-timeout-ms:60000}") long responseTimeoutMs) {
+        HttpClient httpClient = pooledHttpClient("openai", baseUrl, maxConnections,
+                Duration.ofMillis(connectTimeoutMs), Duration.ofMillis(responseTimeoutMs));
+
+        return builder.clone()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(MAX_IN_MEMORY_SIZE))
+                .defaultHeader(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .build();
+    }
+
+    @Bean
+    public WebClient youtubeWebClient(WebClient.Builder builder,
+                                      @Value("${youtube.base-url:https://www.googleapis.com/youtube/v3}") String baseUrl,
+                                      @Value("${youtube.http.max-connections:20}") int maxConnections,
+                                      @Value("${youtube.http.connect-timeout-ms:2000}") long connectTimeoutMs,
+                                      @Value("${youtube.http.response-timeout-ms:5000}") long responseTimeoutMs) {
+        HttpClient httpClient = pooledHttpClient("youtube", baseUrl, maxConnections,
+                Duration.ofMillis(connectTimeoutMs), Duration.ofMillis(responseTimeoutMs));
+
+        return builder.clone()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(MAX_IN_MEMORY_SIZE))
+                .build();
+    }
+
+    /**
+     * 호스트 전용 커넥션 풀 + 타임아웃이 설정된 Reactor Netty HttpClient
+     */
+    static HttpClient pooledHttpClient(String name, String baseUrl, int maxConnections,
+                                       Duration connectTimeout, Duration responseTimeout) {
+        ConnectionProvider provider = ConnectionProvider.builder(name)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(maxConnections * 2)
+                .pendingAcquireTimeout(connectTimeout)  // 풀이 가득 차면 무한 대기 대신 실패
+                .maxIdleTime(Duration.ofSeconds(30))
+                .maxLifeTime(Duration.ofMinutes(5))
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(responseTimeout)  // 응답(스트리밍 포함) 읽기 사이 최대 대기
+                .metrics(true, HttpClientConfig::stripQuery);
+
+        if (baseUrl.startsWith("https")) {
+            httpClient = httpClient
+                    .protocol(HttpProtocol.H2, HttpProtocol.HTTP11)
+                    .secure();
+        }
+        return httpClient;
+    }
+
+    /**
+     * 메트릭 uri 태그에서 쿼리스트링 제거 (검색어/키 별로 태그가 늘어나지 않도록)
+     */
+    private static String stripQuery(String uri) {
+        int query = uri.indexOf('?');
+        return query < 0 ? uri : uri.substring(0, query);
+    }
+}
@@ -1,18 +1,28 @@
 package Wonbin.FinalProject.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
 /**
  * RestTemplate 설정
  * Google OAuth2 API 호출 등에 사용
+ * Spring Boot RestTemplateBuilder 사용 → 타임아웃 적용 + http.client.requests 메트릭 수집
  */
 @Configuration
 public class RestTemplateConfig {
 
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(RestTemplateBuilder builder,
+                                     @Value("${google.http.connect-timeout-ms:3000}") long connectTimeoutMs,
+                                     @Value("${google.http.read-timeout-ms:10000}") long readTimeoutMs) {
+        return builder
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .readTimeout(Duration.ofMillis(readTimeoutMs))
+                .build();
     }
 }
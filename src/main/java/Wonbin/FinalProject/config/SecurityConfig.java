@@ -1,6 +1,7 @@
 package Wonbin.FinalProject.config;
 
 import Wonbin.FinalProject.auth.jwt.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -41,6 +42,9 @@ public class SecurityConfig {
 
                 // 5) URL 인가 정책
                 .authorizeHttpRequests(auth -> auth
+                        // SSE 스트리밍 응답의 async 디스패치 (최초 요청에서 이미 인증됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // 🔥 인증 관련 API 모두 허용
                         .requestMatchers("/api/auth/**").permitAll()
 
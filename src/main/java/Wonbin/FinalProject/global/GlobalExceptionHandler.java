@@ -43,6 +43,15 @@ public class GlobalExceptionHandler {
                 .body(Map.of("error", "InvalidMood", "message", e.getMessage()));
     }
 
+    /**
+     * 인증 사용자 확인 실패 (토큰은 유효하지만 사용자가 없음 등)
+     */
+    @ExceptionHandler(InvalidUserException.class)
+    public ResponseEntity<?> handleInvalidUserException(InvalidUserException e) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(Map.of("error", "Unauthorized", "message", e.getMessage()));
+    }
+
     /**
      * IllegalArgumentException 처리
      */
@@ -0,0 +1,154 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 🔥 기준 스키마(V1) 이후 추가된 테이블 / 컬럼
+ *
+ * 기존 DB는 V1로 baseline되지만, 배포 환경마다 ddl-auto update가 돌았는지 알 수 없음
+ * → 테이블 / 컬럼이 없을 때만 만듦 (MySQL은 ADD COLUMN IF NOT EXISTS가 없어 메타데이터로 확인)
+ */
+public class V2__Backlog_schema_additions extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+
+        // 누적 대화 요약 (Diary.runningSummary / summarizedUntilMessageId)
+        addColumnIfMissing(connection, "diaries", "running_summary", "text");
+        addColumnIfMissing(connection, "diaries", "summarized_until_message_id", "bigint");
+
+        // 바이너리 Embedding (Quest.titleEmbeddingVector / titleEmbeddingNorm)
+        addColumnIfMissing(connection, "quests", "title_embedding_vec", "blob");
+        addColumnIfMissing(connection, "quests", "title_embedding_norm", "float");
+
+        // 공통 퀘스트 카탈로그
+        createTableIfMissing(connection, "quest_catalog", """
+                create table quest_catalog (
+                    id                   bigint       not null auto_increment,
+                    title                varchar(100) not null,
+                    description          text,
+                    category             enum ('HEALTH','LEARNING','SOCIAL','CREATIVE','DAILY_LIFE','MINDFULNESS') not null,
+                    title_embedding_vec  blob         not null,
+                    title_embedding_norm float        not null,
+                    youtube_url          varchar(500),
+                    created_at           datetime(6)  not null,
+                    primary key (id),
+                    constraint uk_quest_catalog_title unique (title)
+                )""");
+        if (addColumnIfMissing(connection, "quests", "catalog_entry_id", "bigint")) {
+            execute(connection, "alter table quests add constraint fk_quests_catalog_entry " +
+                    "foreign key (catalog_entry_id) references quest_catalog (id)");
+        }
+
+        // 퀘스트 생성 선점 (single-flight)
+        createTableIfMissing(connection, "quest_generation_claims", """
+                create table quest_generation_claims (
+                    id         bigint       not null auto_increment,
+                    user_id    bigint       not null,
+                    quest_date date         not null,
+                    owner      varchar(100) not null,
+                    expires_at datetime(6)  not null,
+                    primary key (id),
+                    constraint uk_quest_generation_claims_user_date unique (user_id, quest_date)
+                )""");
+
+        // 퀘스트 사전 생성 배치 진행 상황
+        createTableIfMissing(connection, "quest_batch_checkpoints", """
+                create table quest_batch_checkpoints (
+                    id           bigint      not null auto_increment,
+                    target_date  date        not null,
+                    last_user_id bigint      not null,
+                    succeeded    integer     not null,
+                    skipped      integer     not null,
+                    failed       integer     not null,
+                    status       enum ('RUNNING','COMPLETED') not null,
+                    started_at   datetime(6) not null,
+                    updated_at   datetime(6),
+                    completed_at datetime(6),
+                    primary key (id),
+                    constraint uk_quest_batch_checkpoints_target_date unique (target_date)
+                )""");
+
+        // 유튜브 검색 캐시
+        createTableIfMissing(connection, "youtube_search_cache", """
+                create table youtube_search_cache (
+                    id         bigint       not null auto_increment,
+                    query_key  varchar(255) not null,
+                    video_url  varchar(500),
+                    expires_at datetime(6)  not null,
+                    updated_at datetime(6),
+                    primary key (id),
+                    constraint uk_youtube_search_cache_query_key unique (query_key)
+                )""");
+
+        // Embedding 캐시
+        createTableIfMissing(connection, "embedding_cache", """
+                create table embedding_cache (
+                    cache_key       varchar(64)  not null,
+                    model           varchar(100) not null,
+                    normalized_text text         not null,
+                    vector          blob         not null,
+                    created_at      datetime(6)  not null,
+                    primary key (cache_key)
+                )""");
+
+        // OpenAI Batch 작업
+        if (createTableIfMissing(connection, "openai_batch_jobs", """
+                create table openai_batch_jobs (
+                    id            bigint       not null auto_increment,
+                    batch_id      varchar(255) not null,
+                    kind          varchar(50)  not null,
+                    request_count integer      not null,
+                    succeeded     integer      not null,
+                    failed        integer      not null,
+                    status        enum ('SUBMITTED','COMPLETED','FAILED') not null,
+                    error_message varchar(255),
+                    submitted_at  datetime(6)  not null,
+                    completed_at  datetime(6),
+                    primary key (id),
+                    constraint uk_openai_batch_jobs_batch_id unique (batch_id)
+                )""")) {
+            execute(connection, "create index idx_openai_batch_status on openai_batch_jobs (status)");
+        }
+    }
+
+    private boolean createTableIfMissing(Connection connection, String table, String ddl) throws SQLException {
+        if (tableExists(connection, table)) return false;
+        execute(connection, ddl);
+        return true;
+    }
+
+    private boolean addColumnIfMissing(Connection connection, String table, String column, String type) throws SQLException {
+        if (columnExists(connection, table, column)) return false;
+        execute(connection, "alter table " + table + " add column " + column + " " + type);
+        return true;
+    }
+
+    private boolean tableExists(Connection connection, String table) throws SQLException {
+        DatabaseMetaData meta = connection.getMetaData();
+        try (ResultSet rs = meta.getTables(connection.getCatalog(), connection.getSchema(), table, new String[]{"TABLE"})) {
+            return rs.next();
+        }
+    }
+
+    private boolean columnExists(Connection connection, String table, String column) throws SQLException {
+        DatabaseMetaData meta = connection.getMetaData();
+        try (ResultSet rs = meta.getColumns(connection.getCatalog(), connection.getSchema(), table, column)) {
+            return rs.next();
+        }
+    }
+
+    private void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
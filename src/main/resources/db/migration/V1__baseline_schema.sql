@@ -0,0 +1,77 @@
+-- 기준 스키마 (Flyway 도입 전 첫 배포 시점의 테이블 - 사용자 / 토큰 / 일기 / 대화 / 퀘스트)
+-- 이미 테이블이 있는 DB는 baseline-on-migrate로 V1을 건너뛰고 V2부터 적용
+-- 이후 추가된 테이블 / 컬럼은 V2 (db.migration.V2__Backlog_schema_additions)
+
+create table users (
+    id          bigint       not null auto_increment,
+    email       varchar(255) not null,
+    name        varchar(255) not null,
+    picture     varchar(255),
+    provider    varchar(255) not null,
+    provider_id varchar(255),
+    role        enum ('USER','ADMIN') not null,
+    created_at  datetime(6)  not null,
+    updated_at  datetime(6),
+    primary key (id),
+    constraint uk_users_email unique (email)
+);
+
+create table refresh_tokens (
+    email      varchar(255) not null,
+    token      varchar(512) not null,
+    expires_at datetime(6)  not null,
+    created_at datetime(6)  not null,
+    updated_at datetime(6),
+    primary key (email)
+);
+
+create table diaries (
+    id                          bigint      not null auto_increment,
+    user_id                     bigint      not null,
+    diary_date                  date        not null,
+    mood                        enum ('VERY_HAPPY','HAPPY','NEUTRAL','SAD','VERY_SAD') not null,
+    content                     text        not null,
+    summary_text                text,
+    created_at                  datetime(6) not null,
+    updated_at                  datetime(6),
+    primary key (id),
+    constraint uk_diaries_user_date unique (user_id, diary_date),
+    constraint fk_diaries_user foreign key (user_id) references users (id)
+);
+
+create table chat_messages (
+    id         bigint       not null auto_increment,
+    diary_id   bigint       not null,
+    role       varchar(255) not null,
+    content    text         not null,
+    created_at datetime(6)  not null,
+    primary key (id),
+    constraint fk_chat_messages_diary foreign key (diary_id) references diaries (id)
+);
+
+create table quests (
+    id                   bigint       not null auto_increment,
+    user_id              bigint       not null,
+    title                varchar(255) not null,
+    description          text,
+    category             enum ('HEALTH','LEARNING','SOCIAL','CREATIVE','DAILY_LIFE','MINDFULNESS') not null,
+    quest_date           date         not null,
+    title_embedding      text,
+    youtube_url          varchar(500),
+    created_at           datetime(6)  not null,
+    primary key (id),
+    constraint uk_quests_user_date unique (user_id, quest_date),
+    constraint fk_quests_user foreign key (user_id) references users (id)
+);
+
+create table user_quests (
+    id           bigint      not null auto_increment,
+    user_id      bigint      not null,
+    quest_id     bigint      not null,
+    status       enum ('PENDING','COMPLETED') not null,
+    completed_at datetime(6),
+    created_at   datetime(6) not null,
+    primary key (id),
+    constraint fk_user_quests_user foreign key (user_id) references users (id),
+    constraint fk_user_quests_quest foreign key (quest_id) references quests (id)
+);
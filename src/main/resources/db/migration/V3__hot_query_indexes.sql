@@ -0,0 +1,21 @@
+-- 자주 실행되는 조회에 맞춘 복합 인덱스 (리포지토리 메서드별)
+-- 이미 있는 인덱스로 충분한 조회:
+--   DiaryRepository.findByUserAndDiaryDate / 목록 keyset / 캘린더  -> uk_diaries_user_date (user_id, diary_date)
+--   QuestRepository.findByUserAndQuestDateBetween               -> uk_quests_user_date (user_id, quest_date)
+--   JpaRefreshTokenRepository.findValidTokenByEmail             -> PRIMARY (email)
+
+-- ChatMessageRepository.findByDiaryOrderByCreatedAtAsc (전체 대화 내역, 시간순)
+create index idx_chat_messages_diary_created on chat_messages (diary_id, created_at);
+
+-- ChatMessageRepository.findByDiaryIdOrderByIdDesc / ...IdGreaterThan / ...IdLessThan (대화 맥락, 누적 요약, 페이지)
+-- FK용 자동 인덱스는 위 인덱스가 생기면 없어질 수 있으므로 id 정렬용 인덱스를 명시
+create index idx_chat_messages_diary_id on chat_messages (diary_id, id);
+
+-- UserQuestRepository.findByUserAndQuest / 캘린더 퀘스트 상태 조회
+create index idx_user_quests_user_quest on user_quests (user_id, quest_id);
+
+-- DiaryRepository.findByDiaryDateAndSummaryTextIsNull (전날 일기 요약 배치)
+create index idx_diaries_diary_date on diaries (diary_date);
+
+-- JpaRefreshTokenRepository.deleteExpiredTokens (만료 토큰 정리)
+create index idx_refresh_tokens_expires_at on refresh_tokens (expires_at);
@@ -0,0 +1,86 @@
+package Wonbin.FinalProject.ai.common.vector;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * VectorMath - SIMD 경로와 스칼라(누산기 4개) 경로가 같은 내적을 내는지 확인
+ * 홀수 길이 / SIMD lane 수로 나누어떨어지지 않는 길이로 꼬리 원소 처리까지 확인
+ * (test 태스크는 --add-modules jdk.incubator.vector로 실행 → SIMD 경로 사용 가능)
+ */
+class VectorMathTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 5, 7, 9, 15, 17, 31, 33, 63, 65, 127, 1535, 1536, 1537})
+    void scalarMatchesDoublePrecisionReference(int length) {
+        float[] a = randomVector(length, 1);
+        float[] b = randomVector(length, 2);
+
+        assertThat((double) VectorMath.dotScalar(a, b)).isCloseTo(reference(a, b), within(tolerance(a, b)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 5, 7, 9, 15, 17, 31, 33, 63, 65, 127, 1535, 1536, 1537})
+    void simdMatchesScalar(int length) {
+        assumeTrue(VectorMath.isSimdEnabled(), "jdk.incubator.vector not available");
+
+        float[] a = randomVector(length, 3);
+        float[] b = randomVector(length, 4);
+
+        float simd = VectorMath.dotSimd(a, b);
+        float scalar = VectorMath.dotScalar(a, b);
+
+        assertThat((double) simd).isCloseTo(scalar, within(tolerance(a, b)));
+        assertThat((double) simd).isCloseTo(reference(a, b), within(tolerance(a, b)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 7, 17, 1537})
+    void tailElementsAreIncluded(int length) {
+        // 마지막 원소만 0이 아닌 벡터 → 꼬리 루프가 빠지면 0이 나옴
+        float[] a = new float[length];
+        float[] b = new float[length];
+        a[length - 1] = 3f;
+        b[length - 1] = 2f;
+
+        assertThat(VectorMath.dotScalar(a, b)).isEqualTo(6f);
+        assertThat(VectorMath.dot(a, b)).isEqualTo(6f);
+        if (VectorMath.isSimdEnabled()) {
+            assertThat(VectorMath.dotSimd(a, b)).isEqualTo(6f);
+        }
+    }
+
+    private static float[] randomVector(int length, long seed) {
+        Random random = new Random(seed * 31 + length);
+        float[] vector = new float[length];
+        for (int i = 0; i < length; i++) {
+            vector[i] = random.nextFloat() * 2f - 1f;  // OpenAI embedding과 같은 [-1, 1) 범위
+        }
+        return vector;
+    }
+
+    private static double reference(float[] a, float[] b) {
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += (double) a[i] * b[i];
+        }
+        return sum;
+    }
+
+    /**
+     * 합산 순서 차이로 생기는 float 오차 허용 범위 (Σ|a·b| 기준 상대 오차)
+     */
+    private static double tolerance(float[] a, float[] b) {
+        double magnitude = 0;
+        for (int i = 0; i < a.length; i++) {
+            magnitude += Math.abs((double) a[i] * b[i]);
+        }
+        return Math.max(magnitude * 1e-5, 1e-6);
+    }
+}
@@ -0,0 +1,107 @@
+package Wonbin.FinalProject.ai.diary.service;
+
+import Wonbin.FinalProject.ai.diary.domain.ChatMessage;
+import Wonbin.FinalProject.ai.diary.domain.Diary;
+import Wonbin.FinalProject.ai.diary.domain.Mood;
+import Wonbin.FinalProject.ai.diary.domain.PendingChatMessage;
+import Wonbin.FinalProject.ai.diary.repository.ChatMessageBatchRepository;
+import Wonbin.FinalProject.ai.diary.repository.ChatMessageRepository;
+import Wonbin.FinalProject.ai.diary.repository.DiaryRepository;
+import Wonbin.FinalProject.auth.domain.User;
+import Wonbin.FinalProject.auth.domain.UserRole;
+import Wonbin.FinalProject.auth.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ChatMessageService.saveTurn - 서비스 프록시를 거쳐 실제로 한 턴이 저장되는지 확인
+ * (테스트 트랜잭션 없이 실행 → 서비스가 연 트랜잭션이 그대로 사용됨)
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:chat_message_service;MODE=MySQL;DATABASE_TO_LOWER=TRUE;IGNORE_UNKNOWN_SETTINGS=TRUE",
+        "chat.persistence.mode=sync"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ChatMessageService.class, ChatMessageWriter.class, ChatMessageServiceTest.Config.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ChatMessageServiceTest {
+
+    // INSERT 시점의 트랜잭션이 읽기 전용이었는지 기록
+    private static final AtomicReference<Boolean> insertedInReadOnly = new AtomicReference<>();
+
+    @Autowired
+    private ChatMessageService chatMessageService;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void saveTurnPersistsUserAndAssistantMessagesInOrder() {
+        User user = userRepository.save(User.builder()
+                .email("chat-turn@test.com")
+                .name("tester")
+                .provider("GOOGLE")
+                .role(UserRole.USER)
+                .build());
+        Diary diary = diaryRepository.save(Diary.builder()
+                .user(user)
+                .diaryDate(LocalDate.of(2025, 1, 15))
+                .mood(Mood.HAPPY)
+                .content("오늘 산책을 했다")
+                .build());
+
+        chatMessageService.saveTurn(diary.getId(), "산책이 좋았어요", LocalDateTime.now(), "어떤 점이 좋았나요?");
+
+        assertThat(insertedInReadOnly.get()).isFalse();
+
+        List<ChatMessage> newestFirst = chatMessageRepository.findByDiaryIdOrderByIdDesc(diary.getId(), PageRequest.of(0, 10));
+        assertThat(newestFirst).extracting(ChatMessage::getRole).containsExactly("assistant", "user");
+        assertThat(newestFirst).extracting(ChatMessage::getContent)
+                .containsExactly("어떤 점이 좋았나요?", "산책이 좋았어요");
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        ChatMessageBatchRepository chatMessageBatchRepository(JdbcTemplate jdbcTemplate) {
+            return new ChatMessageBatchRepository(jdbcTemplate) {
+                @Override
+                public void insertAll(List<PendingChatMessage> messages) {
+                    insertedInReadOnly.set(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+                    super.insertAll(messages);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package Wonbin.FinalProject.ai.diary.service;
+
+import Wonbin.FinalProject.ai.diary.domain.PendingChatMessage;
+import Wonbin.FinalProject.ai.diary.repository.ChatMessageBatchRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ChatMessageWriter(write-behind) - 한 건씩 저장하다 DB 오류가 나도
+ * 이미 저장된 메시지가 다음 flush에서 다시 저장되지 않는지 확인
+ */
+class ChatMessageWriterTest {
+
+    private final List<String> stored = new ArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ChatMessageWriter writer;
+
+    @AfterEach
+    void shutdown() {
+        if (writer != null) {
+            writer.flushOnShutdown();
+        }
+    }
+
+    @Test
+    void connectionFailureDuringOneByOneInsertKeepsOnlyUnsavedMessages() {
+        // 1) 묶음 INSERT: 무결성 위반 → 한 건씩
+        // 2) "a" 저장, 3) "b"에서 연결 끊김 → flush 실패
+        // 다음 flush: "b", "c"만 저장
+        List<RuntimeException> failures = new ArrayList<>(List.of(
+                new DataIntegrityViolationException("diary deleted"),
+                new DataAccessResourceFailureException("connection reset")));
+        List<Integer> failOnCall = new ArrayList<>(List.of(1, 3));
+        int[] calls = {0};
+
+        writer = writerWith(messages -> {
+            calls[0]++;
+            if (!failOnCall.isEmpty() && failOnCall.get(0) == calls[0]) {
+                failOnCall.remove(0);
+                throw failures.remove(0);
+            }
+            messages.forEach(message -> stored.add(message.content()));
+        });
+
+        writer.write(List.of(message("a"), message("b"), message("c")));
+
+        writer.flush();
+        assertThat(stored).containsExactly("a");
+        assertThat(meterRegistry.get("chat.persistence.queue.size").gauge().value()).isEqualTo(2.0);
+
+        writer.flush();
+        assertThat(stored).containsExactly("a", "b", "c");
+        assertThat(meterRegistry.get("chat.persistence.queue.size").gauge().value()).isZero();
+    }
+
+    @Test
+    void integrityViolationDropsOnlyOffendingMessage() {
+        writer = writerWith(messages -> {
+            if (messages.size() == 1 && messages.get(0).content().equals("b")) {
+                throw new DataIntegrityViolationException("diary deleted");
+            }
+            if (messages.size() > 1) {
+                throw new DataIntegrityViolationException("diary deleted");
+            }
+            stored.add(messages.get(0).content());
+        });
+
+        writer.write(List.of(message("a"), message("b"), message("c")));
+        writer.flush();
+
+        assertThat(stored).containsExactly("a", "c");
+        assertThat(meterRegistry.get("chat.persistence.dropped").counter().count()).isEqualTo(1.0);
+    }
+
+    private ChatMessageWriter writerWith(Inserter inserter) {
+        ChatMessageBatchRepository repository = new ChatMessageBatchRepository(null) {
+            @Override
+            public void insertAll(List<PendingChatMessage> messages) {
+                inserter.insert(messages);
+            }
+        };
+        // flush 주기를 길게 → 테스트에서 직접 flush
+        return new ChatMessageWriter(repository, meterRegistry, "write-behind", 100, 100, 3_600_000L);
+    }
+
+    private PendingChatMessage message(String content) {
+        return PendingChatMessage.user(1L, content, LocalDateTime.now());
+    }
+
+    private interface Inserter {
+        void insert(List<PendingChatMessage> messages);
+    }
+}
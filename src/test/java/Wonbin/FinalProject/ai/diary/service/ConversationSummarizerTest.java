@@ -0,0 +1,137 @@
+package Wonbin.FinalProject.ai.diary.service;
+
+import Wonbin.FinalProject.ai.common.dto.ChatOptions;
+import Wonbin.FinalProject.ai.common.dto.Message;
+import Wonbin.FinalProject.ai.common.service.OpenAIService;
+import Wonbin.FinalProject.ai.diary.domain.Diary;
+import Wonbin.FinalProject.ai.diary.domain.Mood;
+import Wonbin.FinalProject.ai.diary.repository.ChatMessageBatchRepository;
+import Wonbin.FinalProject.ai.diary.repository.DiaryRepository;
+import Wonbin.FinalProject.auth.domain.User;
+import Wonbin.FinalProject.auth.domain.UserRole;
+import Wonbin.FinalProject.auth.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ConversationSummarizer.fold - 요약 LLM 응답을 기다리는 동안 대화 내역이 삭제되면
+ * 삭제된 대화의 요약이 일기에 다시 써지지 않는지 확인
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:conversation_summarizer;MODE=MySQL;DATABASE_TO_LOWER=TRUE;IGNORE_UNKNOWN_SETTINGS=TRUE",
+        "chat.persistence.mode=sync",
+        "chat.summary.fold-every=2",
+        "chat.summary.keep-recent=2"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ConversationSummarizer.class, ChatMessageService.class, ChatMessageWriter.class,
+        ChatMessageBatchRepository.class, ConversationSummarizerTest.Config.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ConversationSummarizerTest {
+
+    // 요약 응답 직전에 실행할 동작 (LLM 대기 중 사용자 요청 흉내)
+    private static final AtomicReference<Runnable> beforeSummaryReply = new AtomicReference<>(() -> {});
+
+    @Autowired
+    private ConversationSummarizer conversationSummarizer;
+
+    @Autowired
+    private ChatMessageService chatMessageService;
+
+    @Autowired
+    private DiaryRepository diaryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void resetHook() {
+        beforeSummaryReply.set(() -> {});
+    }
+
+    @Test
+    void foldWritesSummaryWhenHistoryIsUnchanged() {
+        Diary diary = diaryWithTwoTurns("fold-kept@test.com");
+
+        conversationSummarizer.foldIfNeeded(diary.getId());
+
+        Diary reloaded = diaryRepository.findById(diary.getId()).orElseThrow();
+        assertThat(reloaded.getRunningSummary()).isEqualTo("요약");
+        assertThat(reloaded.getSummaryWatermark()).isPositive();
+    }
+
+    @Test
+    void foldDoesNotResurrectSummaryOfDeletedHistory() {
+        Diary diary = diaryWithTwoTurns("fold-deleted@test.com");
+        beforeSummaryReply.set(() -> chatMessageService.deleteChatHistory(diary.getUser().getId(), diary.getId()));
+
+        conversationSummarizer.foldIfNeeded(diary.getId());
+
+        Diary reloaded = diaryRepository.findById(diary.getId()).orElseThrow();
+        assertThat(reloaded.getRunningSummary()).isNull();
+        assertThat(reloaded.getSummaryWatermark()).isZero();
+    }
+
+    // keep-recent(2) + fold-every(2) = 4개 → 요약 대상
+    private Diary diaryWithTwoTurns(String email) {
+        User user = userRepository.save(User.builder()
+                .email(email)
+                .name("tester")
+                .provider("GOOGLE")
+                .role(UserRole.USER)
+                .build());
+        Diary diary = diaryRepository.save(Diary.builder()
+                .user(user)
+                .diaryDate(LocalDate.of(2025, 1, 15))
+                .mood(Mood.SAD)
+                .content("오늘 친구와 다퉜다")
+                .build());
+
+        chatMessageService.saveTurn(diary.getId(), "친구랑 다퉜어요", LocalDateTime.now(), "무슨 일이 있었나요?");
+        chatMessageService.saveTurn(diary.getId(), "약속에 늦었어요", LocalDateTime.now(), "기분이 어땠나요?");
+        return diary;
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        OpenAIService openAIService() {
+            return new OpenAIService(WebClient.create(), new ObjectMapper()) {
+                @Override
+                public Mono<String> chat(List<Message> messages, ChatOptions options) {
+                    return Mono.fromSupplier(() -> {
+                        beforeSummaryReply.get().run();
+                        return "요약";
+                    });
+                }
+            };
+        }
+    }
+}
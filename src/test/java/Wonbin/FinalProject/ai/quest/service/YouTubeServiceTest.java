@@ -0,0 +1,110 @@
+package Wonbin.FinalProject.ai.quest.service;
+
+import Wonbin.FinalProject.ai.quest.domain.YouTubeSearchCacheEntry;
+import Wonbin.FinalProject.ai.quest.repository.YouTubeSearchCacheRepository;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * YouTubeService - 로컬 스텁 서버(/search)로 캐시 / 할당량 동작 확인
+ */
+class YouTubeServiceTest {
+
+    private HttpServer stub;
+    private final AtomicInteger searchCalls = new AtomicInteger();
+    private volatile String searchResponse;
+
+    private YouTubeSearchCacheRepository cacheRepository;
+
+    @BeforeEach
+    void startStub() throws IOException {
+        stub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stub.createContext("/search", exchange -> {
+            searchCalls.incrementAndGet();
+            byte[] body = searchResponse.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stub.start();
+
+        cacheRepository = mock(YouTubeSearchCacheRepository.class);
+        when(cacheRepository.findByQueryKey(anyString())).thenReturn(Optional.empty());
+    }
+
+    @AfterEach
+    void stopStub() {
+        stub.stop(0);
+    }
+
+    @Test
+    void searchesAndCachesVideoUrl() {
+        searchResponse = "{\"items\":[{\"id\":{\"videoId\":\"abc123\"}}]}";
+
+        String url = service(10_000).searchVideo("5분  스트레칭 ");
+
+        assertThat(url).isEqualTo("https://www.youtube.com/watch?v=abc123");
+        assertThat(searchCalls.get()).isEqualTo(1);
+        verify(cacheRepository).save(any(YouTubeSearchCacheEntry.class));
+    }
+
+    @Test
+    void servesFreshCacheEntryWithoutCallingApi() {
+        when(cacheRepository.findByQueryKey("종이학 접기")).thenReturn(Optional.of(YouTubeSearchCacheEntry.builder()
+                .queryKey("종이학 접기")
+                .videoUrl("https://www.youtube.com/watch?v=cached")
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .build()));
+
+        String url = service(10_000).searchVideo("종이학 접기");
+
+        assertThat(url).isEqualTo("https://www.youtube.com/watch?v=cached");
+        assertThat(searchCalls.get()).isZero();
+    }
+
+    @Test
+    void negativeCacheEntryReturnsEmpty() {
+        when(cacheRepository.findByQueryKey("없는 영상")).thenReturn(Optional.of(YouTubeSearchCacheEntry.builder()
+                .queryKey("없는 영상")
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .build()));
+
+        assertThat(service(10_000).searchVideo("없는 영상")).isNull();
+        assertThat(searchCalls.get()).isZero();
+    }
+
+    @Test
+    void fallsBackToSearchPageWhenQuotaIsLow() {
+        String url = service(0).searchVideo("커피 내리기");
+
+        assertThat(YouTubeService.isFallbackUrl(url)).isTrue();
+        assertThat(searchCalls.get()).isZero();
+    }
+
+    private YouTubeService service(int dailyUnits) {
+        WebClient webClient = WebClient.create("http://localhost:" + stub.getAddress().getPort());
+        YouTubeQuotaAccountant quota = new YouTubeQuotaAccountant(new SimpleMeterRegistry(), dailyUnits, 0);
+        return new YouTubeService(webClient, "test-key", cacheRepository, quota, 30, 24);
+    }
+}
@@ -0,0 +1,186 @@
+package Wonbin.FinalProject.config;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 마이그레이션(db/migration - V1 기준 스키마, V2 추가 테이블 / 컬럼, V3 인덱스)을 H2(MySQL 모드)에 적용하고
+ * 자주 실행되는 조회가 EXPLAIN에서 인덱스를 사용하는지 확인 (tableScan이면 실패)
+ */
+class SchemaIndexTest {
+
+    private static final String URL = "jdbc:h2:mem:schema_index;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    private static final int USERS = 3;
+    private static final int DAYS = 60;
+    private static final int MESSAGES_PER_DIARY = 10;
+    private static final LocalDate FIRST_DAY = LocalDate.of(2025, 1, 1);
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void migrateAndSeed() throws SQLException {
+        Flyway.configure()
+                .dataSource(URL, "sa", "")
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        connection = DriverManager.getConnection(URL, "sa", "");
+        seed();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE");  // 선택도 통계 갱신 → 실제 데이터 분포 기준으로 실행 계획 선택
+        }
+    }
+
+    @AfterAll
+    static void close() throws SQLException {
+        connection.close();
+    }
+
+    static Stream<Arguments> hotQueries() {
+        return Stream.of(
+                // DiaryRepository.findByUserAndDiaryDate
+                Arguments.of("select * from diaries where user_id = 1 and diary_date = '2025-01-15'",
+                        new String[]{"uk_diaries_user_date"}),
+                // DiaryRepository.findListPageBefore (keyset 목록)
+                Arguments.of("select id, diary_date, mood from diaries where user_id = 1 " +
+                                "and (diary_date < '2025-02-01' or (diary_date = '2025-02-01' and id < 32)) " +
+                                "order by diary_date desc, id desc limit 21",
+                        new String[]{"uk_diaries_user_date"}),
+                // DiaryRepository.findMoodsByUserIdAndDateRange (캘린더)
+                Arguments.of("select diary_date, mood from diaries where user_id = 1 " +
+                                "and diary_date between '2025-01-01' and '2025-01-31' order by diary_date",
+                        new String[]{"uk_diaries_user_date"}),
+                // DiaryRepository.findByDiaryDateAndSummaryTextIsNull
+                Arguments.of("select * from diaries where diary_date = '2025-01-15' and summary_text is null",
+                        new String[]{"idx_diaries_diary_date"}),
+                // ChatMessageRepository.findByDiaryOrderByCreatedAtAsc (Hibernate가 생성하는 SQL 그대로)
+                // H2는 ORDER BY가 인덱스 첫 컬럼부터 일치할 때만 인덱스로 정렬을 생략하므로,
+                // 이 형태에서 (diary_id, created_at) 인덱스를 고르는지 / 정렬을 생략하는지는 H2 실행 계획으로 확인할 수 없음
+                // → 여기서는 diary_id 인덱스 범위 조회(tableScan 아님)까지만 확인, 정렬 생략은 MySQL EXPLAIN으로 확인 필요
+                Arguments.of("select cm1_0.id,cm1_0.content,cm1_0.created_at,cm1_0.diary_id,cm1_0.role " +
+                                "from chat_messages cm1_0 where cm1_0.diary_id=5 order by cm1_0.created_at",
+                        new String[]{"idx_chat_messages_diary_created", "idx_chat_messages_diary_id", "fk_chat_messages_diary"}),
+                // ChatMessageRepository.findByDiaryIdAndIdGreaterThanOrderByIdDesc (대화 맥락)
+                Arguments.of("select * from chat_messages where diary_id = 5 and id > 40 order by id desc limit 20",
+                        new String[]{"idx_chat_messages_diary_id"}),
+                // QuestRepository.findByUserAndQuestDateBetween
+                Arguments.of("select * from quests where user_id = 1 and quest_date between '2025-01-01' and '2025-01-07'",
+                        new String[]{"uk_quests_user_date"}),
+                // UserQuestRepository.findByUserAndQuest
+                Arguments.of("select * from user_quests where user_id = 1 and quest_id = 5",
+                        new String[]{"idx_user_quests_user_quest", "fk_user_quests_quest"}),
+                // UserQuestRepository.findStatusesByUserIdAndDateRange (캘린더)
+                Arguments.of("select q.quest_date, uq.status from user_quests uq join quests q on q.id = uq.quest_id " +
+                                "where q.user_id = 1 and uq.user_id = 1 and q.quest_date between '2025-01-01' and '2025-01-31'",
+                        new String[]{"uk_quests_user_date"}),
+                // JpaRefreshTokenRepository.findValidTokenByEmail
+                Arguments.of("select * from refresh_tokens where email = 'user1@test.com' and expires_at > '2025-01-01 00:00:00'",
+                        new String[]{"primary_key"})
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("hotQueries")
+    void hotQueryUsesIndex(String sql, String[] expectedIndexes) throws SQLException {
+        String plan = explain(sql).toLowerCase(Locale.ROOT);
+
+        assertThat(plan).as(plan).doesNotContain("tablescan");
+        assertThat(Arrays.stream(expectedIndexes).anyMatch(plan::contains))
+                .as("expected one of %s in plan:%n%s", Arrays.toString(expectedIndexes), plan)
+                .isTrue();
+    }
+
+    private static String explain(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("EXPLAIN " + sql)) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+
+    private static void seed() throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.of(2025, 1, 1, 0, 0));
+
+        try (PreparedStatement users = connection.prepareStatement(
+                     "insert into users (id, email, name, provider, role, created_at) values (?, ?, ?, 'GOOGLE', 'USER', ?)");
+             PreparedStatement tokens = connection.prepareStatement(
+                     "insert into refresh_tokens (email, token, expires_at, created_at) values (?, 'token', ?, ?)");
+             PreparedStatement diaries = connection.prepareStatement(
+                     "insert into diaries (id, user_id, diary_date, mood, content, created_at) values (?, ?, ?, 'HAPPY', 'content', ?)");
+             PreparedStatement messages = connection.prepareStatement(
+                     "insert into chat_messages (diary_id, role, content, created_at) values (?, ?, 'message', ?)");
+             PreparedStatement quests = connection.prepareStatement(
+                     "insert into quests (id, user_id, title, category, quest_date, created_at) values (?, ?, 'quest', 'HEALTH', ?, ?)");
+             PreparedStatement userQuests = connection.prepareStatement(
+                     "insert into user_quests (user_id, quest_id, status, created_at) values (?, ?, 'PENDING', ?)")) {
+
+            long rowId = 0;
+            for (long userId = 1; userId <= USERS; userId++) {
+                users.setLong(1, userId);
+                users.setString(2, "user" + userId + "@test.com");
+                users.setString(3, "user" + userId);
+                users.setTimestamp(4, now);
+                users.executeUpdate();
+
+                tokens.setString(1, "user" + userId + "@test.com");
+                tokens.setTimestamp(2, now);
+                tokens.setTimestamp(3, now);
+                tokens.executeUpdate();
+
+                for (int day = 0; day < DAYS; day++) {
+                    rowId++;
+                    Date date = Date.valueOf(FIRST_DAY.plusDays(day));
+
+                    diaries.setLong(1, rowId);
+                    diaries.setLong(2, userId);
+                    diaries.setDate(3, date);
+                    diaries.setTimestamp(4, now);
+                    diaries.addBatch();
+
+                    quests.setLong(1, rowId);
+                    quests.setLong(2, userId);
+                    quests.setDate(3, date);
+                    quests.setTimestamp(4, now);
+                    quests.addBatch();
+
+                    userQuests.setLong(1, userId);
+                    userQuests.setLong(2, rowId);
+                    userQuests.setTimestamp(3, now);
+                    userQuests.addBatch();
+
+                    for (int i = 0; i < MESSAGES_PER_DIARY; i++) {
+                        messages.setLong(1, rowId);
+                        messages.setString(2, i % 2 == 0 ? "assistant" : "user");
+                        messages.setTimestamp(3, now);
+                        messages.addBatch();
+                    }
+                }
+            }
+            diaries.executeBatch();
+            messages.executeBatch();
+            quests.executeBatch();
+            userQuests.executeBatch();
+        }
+    }
+}